@@ -0,0 +1,59 @@
+// 5k-connection comparison of the servlet and reactive variants on the read endpoints.
+//
+// Start the app with the variant under test against a seeded database, then run:
+//   k6 run loadtest/jobs-5k.js                                  (servlet, default profile)
+//   k6 run -e VARIANT=reactive loadtest/jobs-5k.js              (after --spring.profiles.active=reactive)
+// Other knobs: BASE_URL (default http://localhost:8080), VUS (5000), DURATION (2m), LIMIT (20).
+// Each VU keeps one connection open, so VUS is the concurrent connection count. Raise the client's
+// open-file limit first (ulimit -n 65536). Compare http_req_duration p95/p99, http_reqs and the
+// 503 rate, and read process threads/RSS from /actuator/metrics on the server side.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '5000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const LIMIT = __ENV.LIMIT || '20';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    tags: { variant: __ENV.VARIANT || 'servlet' },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+// A sample of ids for the lookup mix, read once before the run
+export function setup() {
+    const res = http.get(`${BASE_URL}/jobs?limit=200&fields=title`);
+    check(res, { 'setup listing is 200': (r) => r.status === 200 });
+    const jobs = res.status === 200 ? res.json('jobs') || [] : [];
+    return { ids: jobs.map((job) => job.id).filter((id) => id) };
+}
+
+export default function (data) {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.6) {
+        res = http.get(`${BASE_URL}/jobs?limit=${LIMIT}`, { tags: { name: 'list' } });
+    } else if (roll < 0.9 && data.ids.length > 0) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        res = http.get(`${BASE_URL}/jobs/${id}`, { tags: { name: 'get' } });
+    } else {
+        res = http.get(`${BASE_URL}/jobs/stats`, { tags: { name: 'stats' } });
+    }
+    // 503 is the bulkhead/scheduler shedding load; count it separately from errors
+    check(res, {
+        'status is 200': (r) => r.status === 200,
+        'not shed (503)': (r) => r.status !== 503,
+    });
+}
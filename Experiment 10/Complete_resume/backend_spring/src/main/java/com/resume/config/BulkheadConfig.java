@@ -0,0 +1,44 @@
+package com.resume.config;
+
+import com.resume.util.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// With virtual threads the servlet pool no longer caps concurrency, so each workload gets its own limit.
+// Parsing and matching are CPU-bound and default to the core count; reads mostly wait on MongoDB.
+@Configuration
+public class BulkheadConfig {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    @Bean
+    public Bulkhead uploadBulkhead(
+            @Value("${bulkhead.upload.max-concurrent:0}") int maxConcurrent,
+            @Value("${bulkhead.upload.max-waiting:32}") int maxWaiting,
+            @Value("${bulkhead.upload.max-wait:5s}") Duration maxWait,
+            MeterRegistry registry) {
+        return new Bulkhead("upload", maxConcurrent > 0 ? maxConcurrent : CORES, maxWaiting, maxWait, registry);
+    }
+
+    @Bean
+    public Bulkhead matchBulkhead(
+            @Value("${bulkhead.match.max-concurrent:0}") int maxConcurrent,
+            @Value("${bulkhead.match.max-waiting:64}") int maxWaiting,
+            @Value("${bulkhead.match.max-wait:2s}") Duration maxWait,
+            MeterRegistry registry) {
+        return new Bulkhead("match", maxConcurrent > 0 ? maxConcurrent : CORES, maxWaiting, maxWait, registry);
+    }
+
+    @Bean
+    public Bulkhead readBulkhead(
+            @Value("${bulkhead.read.max-concurrent:200}") int maxConcurrent,
+            @Value("${bulkhead.read.max-waiting:1000}") int maxWaiting,
+            @Value("${bulkhead.read.max-wait:500ms}") Duration maxWait,
+            MeterRegistry registry) {
+        return new Bulkhead("read", maxConcurrent, maxWaiting, maxWait, registry);
+    }
+}
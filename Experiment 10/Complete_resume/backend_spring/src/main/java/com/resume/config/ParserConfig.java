@@ -0,0 +1,27 @@
+package com.resume.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ParserConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pdfExtractionExecutor(
+            @Value("${parser.pdf.parallel.threads:4}") int threads,
+            @Value("${parser.pdf.parallel.queue-capacity:64}") int queueCapacity) {
+
+        // When the queue is full the request thread extracts the chunk itself
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("pdf-extract-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,37 @@
+package com.resume.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// Event-loop threads must never block, so everything that does runs on one of these bounded pools.
+// A full queue rejects the task instead of growing without limit.
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    // Tomcat is also on the classpath for the servlet variant; Boot would otherwise prefer it here
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(
+            @Value("${reactive.blocking.max-threads:64}") int threads,
+            @Value("${reactive.blocking.queue-capacity:10000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "blocking");
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler cpuScheduler(
+            @Value("${reactive.cpu.max-threads:0}") int threads,
+            @Value("${reactive.cpu.queue-capacity:256}") int queueCapacity) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(size, queueCapacity, "cpu");
+    }
+}
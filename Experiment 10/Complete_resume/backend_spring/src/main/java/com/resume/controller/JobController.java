@@ -4,20 +4,33 @@ import com.resume.dto.JobDTO;
 import com.resume.dto.JobResponse;
 import com.resume.dto.JobStatsResponse;
 import com.resume.model.Job;
+import com.resume.service.JobImportService;
 import com.resume.service.JobService;
+import com.resume.service.ResourceVersionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/jobs")
 @RequiredArgsConstructor
 @Validated
@@ -25,6 +38,11 @@ import java.util.Map;
 public class JobController {
 
     private final JobService jobService;
+    private final JobImportService jobImportService;
+    private final ResourceVersionService resourceVersionService;
+
+    @Value("${http.cache.shared-max-age:10s}")
+    private Duration sharedMaxAge;
 
     @PostMapping
     public ResponseEntity<Map<String, Object>> createJob(@Valid @RequestBody JobDTO jobDTO) {
@@ -44,8 +62,11 @@ public class JobController {
             @RequestParam(required = false) String experienceLevel,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String company,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "1") @Min(1) int page,
-            @RequestParam(defaultValue = "2000") @Min(1) @Max(2000) int limit) {
+            @RequestParam(defaultValue = "2000") @Min(1) @Max(2000) int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
         Map<String, String> filters = new HashMap<>();
         if (search != null) filters.put("search", search);
@@ -54,20 +75,63 @@ public class JobController {
         if (location != null) filters.put("location", location);
         if (company != null) filters.put("company", company);
 
-        JobResponse response = jobService.getAllJobs(filters, page, limit);
+        JobResponse response = jobService.getAllJobs(filters, fields, cursor, page, limit, includeTotal);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String fields) {
+
+        Map<String, String> filters = new HashMap<>();
+        if (search != null) filters.put("search", search);
+        if (jobType != null) filters.put("jobType", jobType);
+        if (experienceLevel != null) filters.put("experienceLevel", experienceLevel);
+        if (location != null) filters.put("location", location);
+        if (company != null) filters.put("company", company);
+
+        StreamingResponseBody body = jobService.exportJobs(filters, fields);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // Body is NDJSON, one JobDTO per line; the response streams one line per rejected record, then a summary
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importJobs(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        jobImportService.importJobs(body, response.getOutputStream());
+    }
+
+    // Stats are held in memory, so a match only saves serializing them
     @GetMapping("/stats")
-    public ResponseEntity<JobStatsResponse> getJobStats() {
+    public ResponseEntity<JobStatsResponse> getJobStats(@RequestHeader HttpHeaders requestHeaders) {
         JobStatsResponse stats = jobService.getJobStats();
-        return ResponseEntity.ok(stats);
+        ResourceVersionService.Tag tag = resourceVersionService.recordStats(stats);
+        if (resourceVersionService.matches(tag, requestHeaders)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), tag).build();
+        }
+        return withValidators(ResponseEntity.ok(), tag).body(stats);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Job> getJob(@PathVariable String id) {
+    public ResponseEntity<Job> getJob(@PathVariable String id, @RequestHeader HttpHeaders requestHeaders) {
+        String key = ResourceVersionService.jobKey(id);
+        ResourceVersionService.Tag cached = resourceVersionService.notModified(key, requestHeaders);
+        if (cached != null) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), cached).build();
+        }
+
+        long readStamp = resourceVersionService.stamp();
         Job job = jobService.getJob(id);
-        return ResponseEntity.ok(job);
+        ResourceVersionService.Tag tag = resourceVersionService.recordJob(job, readStamp);
+        if (resourceVersionService.matches(tag, requestHeaders)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), tag).build();
+        }
+        return withValidators(ResponseEntity.ok(), tag).body(job);
     }
 
     @PutMapping("/{id}")
@@ -83,6 +147,20 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
 
+    // Body holds only the fields to change plus the "version" the client last read
+    @PatchMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> patchJob(
+            @PathVariable String id,
+            @RequestBody Map<String, Object> changes) {
+        Job job = jobService.patchJob(id, changes);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Job updated successfully");
+        response.put("job", job);
+
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, String>> deleteJob(@PathVariable String id) {
         jobService.deleteJob(id);
@@ -92,4 +170,16 @@ public class JobController {
 
         return ResponseEntity.ok(response);
     }
+
+    // Shared caches may serve these briefly; browsers always revalidate with the ETag
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder,
+                                                      ResourceVersionService.Tag tag) {
+        builder.eTag(tag.getEtag())
+                .cacheControl(CacheControl.maxAge(Duration.ZERO).cachePublic().sMaxAge(sharedMaxAge))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (tag.getLastModified() >= 0) {
+            builder.lastModified(tag.getLastModified());
+        }
+        return builder;
+    }
 }
\ No newline at end of file
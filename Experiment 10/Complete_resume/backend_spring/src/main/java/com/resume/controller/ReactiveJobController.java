@@ -0,0 +1,174 @@
+package com.resume.controller;
+
+import com.resume.dto.JobDTO;
+import com.resume.dto.JobResponse;
+import com.resume.dto.JobStatsResponse;
+import com.resume.model.Job;
+import com.resume.service.JobService;
+import com.resume.service.ReactiveJobService;
+import com.resume.service.ResourceVersionService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// WebFlux version of JobController, active with the "reactive" profile. Bulk import stays on the servlet stack.
+@RestController
+@Profile("reactive")
+@RequestMapping("/jobs")
+@RequiredArgsConstructor
+@Validated
+@CrossOrigin(origins = {"http://localhost:8081", "https://your-frontend-domain.com"})
+public class ReactiveJobController {
+
+    private final ReactiveJobService reactiveJobService;
+    private final JobService jobService;
+    private final ResourceVersionService resourceVersionService;
+
+    @Value("${http.cache.shared-max-age:10s}")
+    private Duration sharedMaxAge;
+
+    @PostMapping
+    public Mono<ResponseEntity<Map<String, Object>>> createJob(@Valid @RequestBody JobDTO jobDTO) {
+        return reactiveJobService.createJob(jobDTO).map(job -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Job created successfully");
+            response.put("job", job);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<JobResponse>> getAllJobs(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "2000") @Min(1) @Max(2000) int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        Map<String, String> filters = new HashMap<>();
+        if (search != null) filters.put("search", search);
+        if (jobType != null) filters.put("jobType", jobType);
+        if (experienceLevel != null) filters.put("experienceLevel", experienceLevel);
+        if (location != null) filters.put("location", location);
+        if (company != null) filters.put("company", company);
+
+        return reactiveJobService.getAllJobs(filters, fields, cursor, page, limit, includeTotal)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> exportJobs(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String fields) {
+
+        Map<String, String> filters = new HashMap<>();
+        if (search != null) filters.put("search", search);
+        if (jobType != null) filters.put("jobType", jobType);
+        if (experienceLevel != null) filters.put("experienceLevel", experienceLevel);
+        if (location != null) filters.put("location", location);
+        if (company != null) filters.put("company", company);
+
+        return reactiveJobService.exportJobs(filters, fields);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<JobStatsResponse> getJobStats(@RequestHeader HttpHeaders requestHeaders) {
+        JobStatsResponse stats = jobService.getJobStats();
+        ResourceVersionService.Tag tag = resourceVersionService.recordStats(stats);
+        if (resourceVersionService.matches(tag, requestHeaders)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), tag).build();
+        }
+        return withValidators(ResponseEntity.ok(), tag).body(stats);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Job>> getJob(@PathVariable String id, @RequestHeader HttpHeaders requestHeaders) {
+        String key = ResourceVersionService.jobKey(id);
+        ResourceVersionService.Tag cached = resourceVersionService.notModified(key, requestHeaders);
+        if (cached != null) {
+            return Mono.just(withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), cached).build());
+        }
+
+        long readStamp = resourceVersionService.stamp();
+        return reactiveJobService.getJob(id).map(job -> {
+            ResourceVersionService.Tag tag = resourceVersionService.recordJob(job, readStamp);
+            if (resourceVersionService.matches(tag, requestHeaders)) {
+                return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), tag).build();
+            }
+            return withValidators(ResponseEntity.ok(), tag).body(job);
+        });
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> updateJob(
+            @PathVariable String id,
+            @Valid @RequestBody JobDTO jobDTO) {
+        return reactiveJobService.updateJob(id, jobDTO).map(job -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Job updated successfully");
+            response.put("job", job);
+
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> patchJob(
+            @PathVariable String id,
+            @RequestBody Map<String, Object> changes) {
+        return reactiveJobService.patchJob(id, changes).map(job -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Job updated successfully");
+            response.put("job", job);
+
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, String>>> deleteJob(@PathVariable String id) {
+        return reactiveJobService.deleteJob(id).then(Mono.fromSupplier(() -> {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Job deleted successfully");
+
+            return ResponseEntity.ok(response);
+        }));
+    }
+
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder,
+                                                      ResourceVersionService.Tag tag) {
+        builder.eTag(tag.getEtag())
+                .cacheControl(CacheControl.maxAge(Duration.ZERO).cachePublic().sMaxAge(sharedMaxAge))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (tag.getLastModified() >= 0) {
+            builder.lastModified(tag.getLastModified());
+        }
+        return builder;
+    }
+}
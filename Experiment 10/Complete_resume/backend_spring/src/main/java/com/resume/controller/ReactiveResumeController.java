@@ -0,0 +1,167 @@
+package com.resume.controller;
+
+import com.resume.dto.MatchHistoryResponse;
+import com.resume.dto.MatchResponse;
+import com.resume.dto.ResumeResponse;
+import com.resume.model.Resume;
+import com.resume.service.ReactiveResumeService;
+import com.resume.service.ResourceVersionService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+// WebFlux version of ResumeController, active with the "reactive" profile
+@RestController
+@Profile("reactive")
+@RequestMapping("/resumes")
+@RequiredArgsConstructor
+@Validated
+@CrossOrigin(origins = {"http://localhost:8081", "https://your-frontend-domain.com"})
+public class ReactiveResumeController {
+
+    private final ReactiveResumeService reactiveResumeService;
+    private final ResourceVersionService resourceVersionService;
+
+    @PostMapping("/upload")
+    public Mono<ResponseEntity<Map<String, Object>>> uploadResume(@RequestPart("resume") FilePart file) {
+        return reactiveResumeService.uploadResume(file).map(response -> {
+            HttpStatus status = Boolean.TRUE.equals(response.get("duplicate")) ? HttpStatus.OK : HttpStatus.CREATED;
+            return ResponseEntity.status(status).body(response);
+        });
+    }
+
+    @RequestMapping(value = "/by-hash/{sha256}", method = RequestMethod.HEAD)
+    public Mono<ResponseEntity<Void>> checkResumeByHash(@PathVariable String sha256) {
+        return reactiveResumeService.getResumeByHash(sha256)
+                .map(resume -> ResponseEntity.ok()
+                        .location(URI.create("/resumes/" + resume.getId()))
+                        .build());
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ResumeResponse>> getAllResumes(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(100) int limit) {
+
+        return reactiveResumeService.getAllResumes(fields, cursor, page, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> exportResumes(@RequestParam(required = false) String fields) {
+        return reactiveResumeService.exportResumes(fields);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Resume>> getResume(@PathVariable String id, @RequestHeader HttpHeaders requestHeaders) {
+        String key = ResourceVersionService.resumeKey(id);
+        ResourceVersionService.Tag cached = resourceVersionService.notModified(key, requestHeaders);
+        if (cached != null) {
+            return Mono.just(withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), cached).build());
+        }
+
+        long readStamp = resourceVersionService.stamp();
+        return reactiveResumeService.getResume(id).map(resume -> {
+            ResourceVersionService.Tag tag = resourceVersionService.recordResume(resume, readStamp);
+            if (resourceVersionService.matches(tag, requestHeaders)) {
+                return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), tag).build();
+            }
+            return withValidators(ResponseEntity.ok(), tag).body(resume);
+        });
+    }
+
+    // WebFlux serves Range requests for file resources itself, and uses zero-copy transfer on Netty
+    @GetMapping("/{id}/file")
+    public Mono<ResponseEntity<Resource>> downloadResume(@PathVariable String id, ServerWebExchange exchange) {
+        return reactiveResumeService.getResume(id).flatMap(resume ->
+                reactiveResumeService.getResumeFile(resume).flatMap(path -> {
+                    String etag = resume.getContentHash() != null
+                            ? "\"" + resume.getContentHash() + "\""
+                            : "W/\"" + resume.getFilename() + "-" + resume.getFileSize() + "\"";
+                    if (exchange.checkNotModified(etag)) {
+                        return Mono.empty();
+                    }
+
+                    return Mono.just(ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(CacheControl.noCache().cachePrivate())
+                            .contentType(resume.getMimeType() != null
+                                    ? MediaType.parseMediaType(resume.getMimeType())
+                                    : MediaType.APPLICATION_OCTET_STREAM)
+                            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                                    .filename(resume.getOriginalName() != null ? resume.getOriginalName() : resume.getFilename(),
+                                            StandardCharsets.UTF_8)
+                                    .build()
+                                    .toString())
+                            .body(new FileSystemResource(path)));
+                }));
+    }
+
+    @GetMapping("/{id}/text")
+    public Mono<ResponseEntity<Map<String, String>>> getResumeText(@PathVariable String id) {
+        return reactiveResumeService.getResumeText(id).map(text -> {
+            Map<String, String> response = new HashMap<>();
+            response.put("id", id);
+            response.put("extractedText", text);
+
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, String>>> deleteResume(@PathVariable String id) {
+        return reactiveResumeService.deleteResume(id).then(Mono.fromSupplier(() -> {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Resume deleted successfully");
+
+            return ResponseEntity.ok(response);
+        }));
+    }
+
+    @GetMapping("/{id}/matches")
+    public Mono<ResponseEntity<MatchHistoryResponse>> getMatchHistory(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+
+        return reactiveResumeService.getMatchHistory(id, page, limit).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{id}/match")
+    public Mono<ResponseEntity<MatchResponse>> matchJobs(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+
+        return reactiveResumeService.matchJobs(id, limit).map(ResponseEntity::ok);
+    }
+
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder,
+                                                      ResourceVersionService.Tag tag) {
+        builder.eTag(tag.getEtag()).cacheControl(CacheControl.noCache().cachePrivate()).varyBy(HttpHeaders.ACCEPT);
+        if (tag.getLastModified() >= 0) {
+            builder.lastModified(tag.getLastModified());
+        }
+        return builder;
+    }
+}
@@ -1,36 +1,62 @@
 package com.resume.controller;
 
+import com.resume.dto.MatchHistoryResponse;
 import com.resume.dto.MatchResponse;
 import com.resume.dto.ResumeResponse;
 import com.resume.model.Resume;
+import com.resume.service.ResourceVersionService;
 import com.resume.service.ResumeService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/resumes")
 @RequiredArgsConstructor
 @Validated
 @CrossOrigin(origins = {"http://localhost:8081", "https://your-frontend-domain.com"})
 public class ResumeController {
 
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final ResumeService resumeService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping("/upload")
     public ResponseEntity<?> uploadResume(@RequestParam("resume") MultipartFile file) {
         try {
             Map<String, Object> response = resumeService.uploadResume(file);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            HttpStatus status = Boolean.TRUE.equals(response.get("duplicate")) ? HttpStatus.OK : HttpStatus.CREATED;
+            return ResponseEntity.status(status).body(response);
         } catch (IllegalArgumentException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -43,19 +69,129 @@ public class ResumeController {
         }
     }
 
+    @RequestMapping(value = "/by-hash/{sha256}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> checkResumeByHash(@PathVariable String sha256) {
+        Resume resume = resumeService.getResumeByHash(sha256);
+        return ResponseEntity.ok()
+                .location(URI.create("/resumes/" + resume.getId()))
+                .build();
+    }
+
     @GetMapping
     public ResponseEntity<ResumeResponse> getAllResumes(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "1") @Min(1) int page,
-            @RequestParam(defaultValue = "100") @Min(1) @Max(100) int limit) {
+            @RequestParam(defaultValue = "100") @Min(1) @Max(100) int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        ResumeResponse response = resumeService.getAllResumes(page, limit);
+        ResumeResponse response = resumeService.getAllResumes(fields, cursor, page, limit, includeTotal);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportResumes(@RequestParam(required = false) String fields) {
+        StreamingResponseBody body = resumeService.exportResumes(fields);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Resume> getResume(@PathVariable String id) {
+    public ResponseEntity<Resume> getResume(@PathVariable String id, @RequestHeader HttpHeaders requestHeaders) {
+        String key = ResourceVersionService.resumeKey(id);
+        ResourceVersionService.Tag cached = resourceVersionService.notModified(key, requestHeaders);
+        if (cached != null) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), cached).build();
+        }
+
+        long readStamp = resourceVersionService.stamp();
+        Resume resume = resumeService.getResume(id);
+        ResourceVersionService.Tag tag = resourceVersionService.recordResume(resume, readStamp);
+        if (resourceVersionService.matches(tag, requestHeaders)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), tag).build();
+        }
+        return withValidators(ResponseEntity.ok(), tag).body(resume);
+    }
+
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadResume(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            ServletWebRequest webRequest) throws IOException {
+
         Resume resume = resumeService.getResume(id);
-        return ResponseEntity.ok(resume);
+        Path path = resumeService.getResumeFile(resume);
+        long length = Files.size(path);
+
+        String etag = resume.getContentHash() != null
+                ? "\"" + resume.getContentHash() + "\""
+                : "W/\"" + resume.getFilename() + "-" + length + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentType(resume.getMimeType() != null
+                ? MediaType.parseMediaType(resume.getMimeType())
+                : MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(ContentDisposition.inline()
+                .filename(resume.getOriginalName() != null ? resume.getOriginalName() : resume.getFilename(),
+                        StandardCharsets.UTF_8)
+                .build());
+
+        ResponseEntity<Resource> sendfile = trySendfile(webRequest.getRequest(), path, length, range, headers);
+        if (sendfile != null) {
+            return sendfile;
+        }
+
+        // Spring serves Range requests for Resource bodies as streamed ResourceRegions
+        return ResponseEntity.ok().headers(headers).body(new FileSystemResource(path));
+    }
+
+    // Hands the file to Tomcat's sendfile (FileChannel.transferTo) for full and single-range responses
+    private ResponseEntity<Resource> trySendfile(HttpServletRequest request, Path path, long length,
+                                                 String range, HttpHeaders headers) {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+                || !"GET".equals(request.getMethod()) || length == 0) {
+            return null;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpStatus status = HttpStatus.OK;
+
+        if (range != null) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() != 1) {
+                    return null;
+                }
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        headers.setContentLength(end - start + 1);
+        request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+        request.setAttribute(SENDFILE_START, start);
+        request.setAttribute(SENDFILE_END, end + 1);
+
+        return ResponseEntity.status(status).headers(headers).build();
+    }
+
+    @GetMapping("/{id}/text")
+    public ResponseEntity<Map<String, String>> getResumeText(@PathVariable String id) {
+        Map<String, String> response = new HashMap<>();
+        response.put("id", id);
+        response.put("extractedText", resumeService.getResumeText(id));
+
+        return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{id}")
@@ -75,6 +211,16 @@ public class ResumeController {
         }
     }
 
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<MatchHistoryResponse> getMatchHistory(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+
+        MatchHistoryResponse response = resumeService.getMatchHistory(id, page, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{id}/match")
     public ResponseEntity<MatchResponse> matchJobs(
             @PathVariable String id,
@@ -83,4 +229,14 @@ public class ResumeController {
         MatchResponse response = resumeService.matchJobs(id, limit);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // Resumes carry contact details, so only the client may cache them, and always revalidates
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder,
+                                                      ResourceVersionService.Tag tag) {
+        builder.eTag(tag.getEtag()).cacheControl(CacheControl.noCache().cachePrivate()).varyBy(HttpHeaders.ACCEPT);
+        if (tag.getLastModified() >= 0) {
+            builder.lastModified(tag.getLastModified());
+        }
+        return builder;
+    }
+}
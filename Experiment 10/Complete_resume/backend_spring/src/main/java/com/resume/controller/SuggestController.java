@@ -0,0 +1,45 @@
+package com.resume.controller;
+
+import com.resume.service.SuggestService;
+import com.resume.util.PrefixIndex;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/suggest")
+@RequiredArgsConstructor
+@Validated
+@CrossOrigin(origins = {"http://localhost:8081", "https://your-frontend-domain.com"})
+public class SuggestController {
+
+    private final SuggestService suggestService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> suggest(
+            @RequestParam String field,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+
+        List<PrefixIndex.Suggestion> suggestions = suggestService.suggest(field, prefix, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("field", field);
+        response.put("prefix", prefix);
+        response.put("suggestions", suggestions);
+
+        // Keystrokes repeat the same prefixes; counts lag by at most the publish interval anyway
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(5)))
+                .body(response);
+    }
+}
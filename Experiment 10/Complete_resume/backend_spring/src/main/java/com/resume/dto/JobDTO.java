@@ -11,6 +11,9 @@ import java.util.List;
 @Data
 public class JobDTO {
 
+    @Size(max = 200, message = "External id must not exceed 200 characters")
+    private String externalId;
+
     @NotBlank(message = "Title is required")
     @Size(max = 200, message = "Title must not exceed 200 characters")
     private String title;
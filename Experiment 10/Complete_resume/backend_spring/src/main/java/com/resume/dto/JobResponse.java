@@ -1,6 +1,5 @@
 package com.resume.dto;
 
-import com.resume.model.Job;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -10,7 +9,7 @@ import java.util.Map;
 @Data
 @AllArgsConstructor
 public class JobResponse {
-    private List<Job> jobs;
+    private List<Map<String, Object>> jobs;
     private PaginationInfo pagination;
     private Map<String, String> filters;
 
@@ -21,5 +20,6 @@ public class JobResponse {
         private int limit;
         private long total;
         private int pages;
+        private String nextCursor;
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.resume.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Data
@@ -13,6 +15,13 @@ public class JobStatsResponse {
     private Map<String, Long> experienceLevels;
     private AverageSalary averageSalary;
 
+    // Only used for the ETag and Last-Modified headers
+    @JsonIgnore
+    private long version;
+
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     @Data
     @AllArgsConstructor
     public static class AverageSalary {
@@ -0,0 +1,24 @@
+package com.resume.dto;
+
+import com.resume.model.MatchHistoryEntry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class MatchHistoryResponse {
+    private String resumeId;
+    private List<MatchHistoryEntry> matches;
+    private PaginationInfo pagination;
+
+    @Data
+    @AllArgsConstructor
+    public static class PaginationInfo {
+        private int page;
+        private int limit;
+        private long total;
+        private int pages;
+    }
+}
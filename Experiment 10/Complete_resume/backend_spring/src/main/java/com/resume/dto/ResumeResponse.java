@@ -1,15 +1,15 @@
 package com.resume.dto;
 
-import com.resume.model.Resume;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @AllArgsConstructor
 public class ResumeResponse {
-    private List<Resume> resumes;
+    private List<Map<String, Object>> resumes;
     private PaginationInfo pagination;
 
     @Data
@@ -19,5 +19,6 @@ public class ResumeResponse {
         private int limit;
         private long total;
         private int pages;
+        private String nextCursor;
     }
 }
\ No newline at end of file
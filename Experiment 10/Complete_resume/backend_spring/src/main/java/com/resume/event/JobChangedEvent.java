@@ -0,0 +1,23 @@
+package com.resume.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+// Published after every partial update; only fields whose value actually changed are listed, so
+// changes is empty for a patch that only bumped the version
+@Data
+@AllArgsConstructor
+public class JobChangedEvent {
+    private String jobId;
+    private long version;
+    private Map<String, FieldChange> changes;
+
+    @Data
+    @AllArgsConstructor
+    public static class FieldChange {
+        private Object oldValue;
+        private Object newValue;
+    }
+}
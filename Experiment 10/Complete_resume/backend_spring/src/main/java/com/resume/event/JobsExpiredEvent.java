@@ -0,0 +1,13 @@
+package com.resume.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Published after the expiry sweeper deactivates a batch of jobs
+@Data
+@AllArgsConstructor
+public class JobsExpiredEvent {
+    private List<String> jobIds;
+}
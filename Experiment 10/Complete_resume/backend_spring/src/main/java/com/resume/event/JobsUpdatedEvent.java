@@ -0,0 +1,13 @@
+package com.resume.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Published after jobs are created, replaced, deactivated or imported
+@Data
+@AllArgsConstructor
+public class JobsUpdatedEvent {
+    private List<String> jobIds;
+}
@@ -1,7 +1,11 @@
 package com.resume.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -11,16 +15,41 @@ import java.util.List;
 
 @Data
 @Document(collection = "jobs")
+// Listing, keyset paging and match candidates only ever read active jobs, newest first,
+// so each filter gets an index that is partial on isActive and already in listing order.
+@CompoundIndexes({
+        @CompoundIndex(name = "active_recent", def = "{'postedAt': -1, '_id': -1}",
+                partialFilter = "{'isActive': true}"),
+        @CompoundIndex(name = "active_type_posted_id", def = "{'jobType': 1, 'postedAt': -1, '_id': -1}",
+                partialFilter = "{'isActive': true}"),
+        @CompoundIndex(name = "active_level_posted_id", def = "{'experienceLevel': 1, 'postedAt': -1, '_id': -1}",
+                partialFilter = "{'isActive': true}"),
+        @CompoundIndex(name = "active_type_level_posted_id",
+                def = "{'jobType': 1, 'experienceLevel': 1, 'postedAt': -1, '_id': -1}",
+                partialFilter = "{'isActive': true}"),
+        @CompoundIndex(name = "active_location_posted_id", def = "{'locationKey': 1, 'postedAt': -1, '_id': -1}",
+                partialFilter = "{'isActive': true}"),
+        @CompoundIndex(name = "active_company_posted_id", def = "{'companyKey': 1, 'postedAt': -1, '_id': -1}",
+                partialFilter = "{'isActive': true}")
+})
 public class Job {
 
     @Id
     private String id;
 
+    // Identifier assigned by the feed partner; bulk imports upsert on it
+    @Indexed(unique = true, sparse = true)
+    private String externalId;
+
     @TextIndexed
     private String title;
 
     private String company;
 
+    // Lowercased copies of company and location, matched with anchored prefix queries
+    @JsonIgnore
+    private String companyKey;
+
     @TextIndexed
     private String description;
 
@@ -29,6 +58,9 @@ public class Job {
 
     private String location;
 
+    @JsonIgnore
+    private String locationKey;
+
     private SalaryRange salaryRange;
 
     private String jobType = "full-time";
@@ -42,18 +74,23 @@ public class Job {
 
     private String experienceLevel = "mid";
 
-    @Indexed
     private Boolean isActive = true;
 
-    @Indexed
     private LocalDateTime postedAt = LocalDateTime.now();
 
+    // Last write of any kind; served as Last-Modified
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Indexed
     private LocalDateTime expiresAt;
 
     private String applicationUrl;
 
     private String contactEmail;
 
+    @Version
+    private Long version;
+
     @Data
     public static class SalaryRange {
         private Integer min;
@@ -0,0 +1,37 @@
+package com.resume.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+// Running totals over active jobs, maintained with $inc on every job change
+@Data
+@Document(collection = "job_stats")
+public class JobStats {
+
+    @Id
+    private String id;
+
+    private long totalJobs;
+
+    private Map<String, Long> jobTypes = new HashMap<>();
+
+    private Map<String, Long> experienceLevels = new HashMap<>();
+
+    private long salaryMinSum;
+
+    private long salaryMinCount;
+
+    private long salaryMaxSum;
+
+    private long salaryMaxCount;
+
+    // Bumped with every change to the totals; the ETag of /jobs/stats
+    private long version;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.resume.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Document(collection = "match_history")
+@CompoundIndex(name = "resume_matched_at", def = "{'resumeId': 1, 'matchedAt': -1}")
+public class MatchHistoryEntry {
+
+    @Id
+    private String id;
+
+    private String resumeId;
+
+    private String jobId;
+
+    private Double score;
+
+    private List<String> matchedKeywords;
+
+    private LocalDateTime matchedAt = LocalDateTime.now();
+}
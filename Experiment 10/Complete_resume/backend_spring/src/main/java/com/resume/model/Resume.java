@@ -2,10 +2,11 @@ package com.resume.model;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Data
 @Document(collection = "resumes")
+@CompoundIndex(name = "uploaded_id", def = "{'uploadedAt': -1, '_id': -1}")
 public class Resume {
 
     @Id
@@ -20,11 +22,16 @@ public class Resume {
 
     private String originalName;
 
+    @Indexed
     private String filename;
 
     private String filePath;
 
-    @TextIndexed
+    @Indexed(unique = true, sparse = true)
+    private String contentHash;
+
+    // Stored deflated in resume_texts; only populated when explicitly loaded
+    @Transient
     private String extractedText;
 
     @Indexed
@@ -42,9 +49,13 @@ public class Resume {
 
     private String mimeType;
 
-    @Indexed
     private LocalDateTime uploadedAt = LocalDateTime.now();
 
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Version
+    private Long version;
+
     private List<MatchHistory> matchHistory = new ArrayList<>();
 
     @Data
@@ -0,0 +1,19 @@
+package com.resume.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Document(collection = "resume_texts")
+public class ResumeText {
+
+    @Id
+    private String id;
+
+    private String encoding = "deflate";
+
+    private Integer length;
+
+    private byte[] content;
+}
@@ -0,0 +1,59 @@
+package com.resume.repository;
+
+import com.resume.event.JobsExpiredEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Listing totals are estimates: each distinct filter is counted at most once per TTL
+@Component
+@RequiredArgsConstructor
+public class CountCache {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    @Value("${pagination.count-cache-ttl:30s}")
+    private Duration ttl;
+
+    public long count(Query query, Class<?> type, boolean exact) {
+        String key = type.getName() + query.getQueryObject().toJson();
+        long now = System.nanoTime();
+
+        CachedCount cached = counts.get(key);
+        if (!exact && cached != null && now - cached.getCountedAt() < ttl.toNanos()) {
+            return cached.getValue();
+        }
+
+        long value = mongoTemplate.count(query, type);
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(key, new CachedCount(value, now));
+        return value;
+    }
+
+    @EventListener
+    public void onJobsExpired(JobsExpiredEvent event) {
+        counts.clear();
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class CachedCount {
+        private long value;
+        private long countedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.resume.repository;
+
+import com.resume.model.Job;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface JobRepositoryCustom {
+
+    List<Job> findProjected(Query query, Collection<String> fields);
+
+    long countMatching(Query query, boolean exact);
+
+    // Backed by an open cursor; callers must close the stream
+    Stream<Job> streamProjected(Query query, Collection<String> fields);
+}
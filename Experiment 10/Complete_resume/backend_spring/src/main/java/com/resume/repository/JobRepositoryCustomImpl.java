@@ -0,0 +1,40 @@
+package com.resume.repository;
+
+import com.resume.model.Job;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final CountCache countCache;
+
+    @Override
+    public List<Job> findProjected(Query query, Collection<String> fields) {
+        Query projectedQuery = Query.of(query);
+        fields.forEach(projectedQuery.fields()::include);
+
+        return mongoTemplate.find(projectedQuery, Job.class);
+    }
+
+    @Override
+    public Stream<Job> streamProjected(Query query, Collection<String> fields) {
+        Query projectedQuery = Query.of(query).cursorBatchSize(STREAM_BATCH_SIZE);
+        fields.forEach(projectedQuery.fields()::include);
+
+        return mongoTemplate.stream(projectedQuery, Job.class);
+    }
+
+    @Override
+    public long countMatching(Query query, boolean exact) {
+        return countCache.count(query, Job.class, exact);
+    }
+}
@@ -0,0 +1,15 @@
+package com.resume.repository;
+
+import com.resume.model.MatchHistoryEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MatchHistoryRepository extends MongoRepository<MatchHistoryEntry, String> {
+
+    Page<MatchHistoryEntry> findByResumeIdOrderByMatchedAtDesc(String resumeId, Pageable pageable);
+
+    void deleteByResumeId(String resumeId);
+}
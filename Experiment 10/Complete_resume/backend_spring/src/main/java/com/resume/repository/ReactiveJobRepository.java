@@ -0,0 +1,9 @@
+package com.resume.repository;
+
+import com.resume.model.Job;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveJobRepository extends ReactiveMongoRepository<Job, String> {
+}
@@ -0,0 +1,11 @@
+package com.resume.repository;
+
+import com.resume.model.Resume;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveResumeRepository extends ReactiveMongoRepository<Resume, String> {
+    Mono<Resume> findByContentHash(String contentHash);
+}
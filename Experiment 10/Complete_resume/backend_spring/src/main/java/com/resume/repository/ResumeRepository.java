@@ -1,13 +1,13 @@
 package com.resume.repository;
 
 import com.resume.model.Resume;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface ResumeRepository extends MongoRepository<Resume, String> {
+public interface ResumeRepository extends MongoRepository<Resume, String>, ResumeRepositoryCustom {
 
-    Page<Resume> findAllByOrderByUploadedAtDesc(Pageable pageable);
+    Optional<Resume> findByContentHash(String contentHash);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.resume.repository;
+
+import com.resume.model.Resume;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ResumeRepositoryCustom {
+
+    List<Resume> findProjected(Query query, Collection<String> fields);
+
+    long countMatching(Query query, boolean exact);
+
+    // Backed by an open cursor; callers must close the stream
+    Stream<Resume> streamProjected(Query query, Collection<String> fields);
+
+    void pushRecentMatches(String resumeId, List<Resume.MatchHistory> matches, int limit);
+}
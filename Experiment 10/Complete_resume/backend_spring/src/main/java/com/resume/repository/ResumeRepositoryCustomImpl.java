@@ -0,0 +1,55 @@
+package com.resume.repository;
+
+import com.resume.model.Resume;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ResumeRepositoryCustomImpl implements ResumeRepositoryCustom {
+
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final CountCache countCache;
+
+    @Override
+    public List<Resume> findProjected(Query query, Collection<String> fields) {
+        Query projectedQuery = Query.of(query);
+        fields.forEach(projectedQuery.fields()::include);
+
+        return mongoTemplate.find(projectedQuery, Resume.class);
+    }
+
+    @Override
+    public Stream<Resume> streamProjected(Query query, Collection<String> fields) {
+        Query projectedQuery = Query.of(query).cursorBatchSize(STREAM_BATCH_SIZE);
+        fields.forEach(projectedQuery.fields()::include);
+
+        return mongoTemplate.stream(projectedQuery, Resume.class);
+    }
+
+    @Override
+    public long countMatching(Query query, boolean exact) {
+        return countCache.count(query, Resume.class, exact);
+    }
+
+    @Override
+    public void pushRecentMatches(String resumeId, List<Resume.MatchHistory> matches, int limit) {
+        Update update = new Update();
+        update.push("matchHistory")
+                .atPosition(Update.Position.FIRST)
+                .slice(limit)
+                .each(matches.toArray());
+        update.set("updatedAt", LocalDateTime.now()).inc("version", 1);
+
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(resumeId)), update, Resume.class);
+    }
+}
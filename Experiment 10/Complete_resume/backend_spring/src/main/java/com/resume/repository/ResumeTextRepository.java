@@ -0,0 +1,9 @@
+package com.resume.repository;
+
+import com.resume.model.ResumeText;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeTextRepository extends MongoRepository<ResumeText, String> {
+}
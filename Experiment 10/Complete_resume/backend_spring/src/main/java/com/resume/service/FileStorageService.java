@@ -0,0 +1,98 @@
+package com.resume.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+
+@Service
+public class FileStorageService {
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    public StoredFile store(MultipartFile file) throws IOException {
+        String originalFilename = file.getOriginalFilename();
+        String filename = System.currentTimeMillis() + "-" +
+                new Random().nextInt(1000000000) + "-" + originalFilename;
+        Path filePath = pathFor(filename);
+        Files.createDirectories(filePath.getParent());
+
+        // Moves the spooled multipart file into place (a rename when it is on the same
+        // file system) instead of streaming a second copy of it.
+        file.transferTo(filePath.toAbsolutePath().toFile());
+
+        try {
+            ByteBuffer content = map(filePath);
+            return new StoredFile(filename, filePath.toString(), sha256(content), content.remaining(), content);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(filePath);
+            throw e;
+        }
+    }
+
+    public Path getUploadRoot() {
+        return Paths.get(uploadDir);
+    }
+
+    // Spreads files over <upload-dir>/ab/cd/ using the leading hex digits of the filename's hash
+    public Path pathFor(String filename) {
+        String shard = sha256(ByteBuffer.wrap(filename.getBytes(StandardCharsets.UTF_8)));
+        return getUploadRoot()
+                .resolve(shard.substring(0, 2))
+                .resolve(shard.substring(2, 4))
+                .resolve(filename);
+    }
+
+    public Path resolve(String filePath) {
+        Path path = Paths.get(filePath);
+        if (!Files.isReadable(path)) {
+            throw new RuntimeException("Resume file not found");
+        }
+        return path;
+    }
+
+    public void delete(String filePath) throws IOException {
+        Files.deleteIfExists(Paths.get(filePath));
+    }
+
+    private ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private String sha256(ByteBuffer content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content.duplicate());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class StoredFile {
+        private String filename;
+        private String filePath;
+        private String sha256;
+        private long size;
+        private ByteBuffer content;
+    }
+}
@@ -0,0 +1,80 @@
+package com.resume.service;
+
+import com.resume.event.JobsExpiredEvent;
+import com.resume.model.Job;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobExpiryService {
+
+    private final MongoTemplate mongoTemplate;
+    private final JobStatsService jobStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jobs.expiry.batch-size:500}")
+    private int batchSize;
+
+    // Listings and matching already hide expired jobs; this makes it permanent and keeps the active set small
+    @Scheduled(fixedDelayString = "${jobs.expiry.sweep-interval-ms:60000}",
+            initialDelayString = "${jobs.expiry.sweep-interval-ms:60000}")
+    public void deactivateExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        long deactivated = 0;
+
+        List<Job> batch;
+        do {
+            batch = mongoTemplate.find(expiredQuery(now, batchSize), Job.class);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // One conditional findAndModify per job: it returns the document as it was when this sweep
+            // deactivated it, so a concurrent PATCH or another instance's sweep can't skew the stats
+            Update update = new Update().set("isActive", false).set("updatedAt", LocalDateTime.now()).inc("version", 1);
+            List<Job> expired = new ArrayList<>();
+            for (Job candidate : batch) {
+                Job before = mongoTemplate.findAndModify(deactivationQuery(candidate.getId(), now), update, Job.class);
+                if (before != null) {
+                    expired.add(before);
+                }
+            }
+
+            if (!expired.isEmpty()) {
+                jobStatsService.recordChanges(expired, List.of());
+                eventPublisher.publishEvent(new JobsExpiredEvent(expired.stream().map(Job::getId).toList()));
+            }
+            deactivated += expired.size();
+        } while (batch.size() == batchSize);
+
+        if (deactivated > 0) {
+            log.info("Deactivated {} expired jobs", deactivated);
+        }
+    }
+
+    static Query expiredQuery(LocalDateTime now, int limit) {
+        Query query = new Query(Criteria.where("isActive").is(true).and("expiresAt").lte(now)).limit(limit);
+        query.fields().include("_id");
+        return query;
+    }
+
+    private static Query deactivationQuery(String id, LocalDateTime now) {
+        Query query = new Query(Criteria.where("id").is(id).and("isActive").is(true).and("expiresAt").lte(now));
+        query.fields().include("jobType", "experienceLevel", "salaryRange", "isActive");
+        return query;
+    }
+}
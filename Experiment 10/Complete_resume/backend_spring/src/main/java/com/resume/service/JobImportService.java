@@ -0,0 +1,273 @@
+package com.resume.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.dto.JobDTO;
+import com.resume.event.JobsUpdatedEvent;
+import com.resume.model.Job;
+import com.resume.util.Ndjson;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class JobImportService {
+
+    // The feed owns every mapped field except these. A record that leaves a field out clears it, and
+    // isActive is only set on insert, so a re-import never revives a job that was deleted or expired.
+    private static final Set<String> NOT_FEED_OWNED = Set.of("_id", "externalId", "version", "postedAt", "isActive");
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private final JobService jobService;
+    private final JobStatsService jobStatsService;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jobs.import.batch-size:500}")
+    private int batchSize;
+
+    private List<String> feedFields;
+
+    @PostConstruct
+    public void init() {
+        List<String> fields = new ArrayList<>();
+        mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Job.class)
+                .doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+                    if (!NOT_FEED_OWNED.contains(property.getFieldName())) {
+                        fields.add(property.getFieldName());
+                    }
+                });
+        feedFields = fields;
+    }
+
+    // Reads one record at a time and writes a report line per rejected record, so memory stays bounded by one batch
+    public void importJobs(InputStream body, OutputStream report) throws IOException {
+        ImportSummary summary = new ImportSummary();
+        List<PendingJob> batch = new ArrayList<>(batchSize);
+        Set<String> batchIds = new HashSet<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body);
+             MappingIterator<JobDTO> records = objectMapper.readerFor(JobDTO.class).readValues(parser)) {
+
+            int record = 0;
+            while (true) {
+                JobDTO dto;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    record++;
+                    summary.received++;
+                    dto = records.nextValue();
+                } catch (JsonParseException e) {
+                    // Malformed JSON leaves the parser at an unknown position, so nothing after it can be trusted
+                    summary.failed++;
+                    writeError(report, record, line(parser), null, List.of("Malformed JSON: " + e.getOriginalMessage()));
+                    break;
+                } catch (IOException e) {
+                    summary.failed++;
+                    writeError(report, record, line(parser), null, List.of("Invalid record: " + e.getMessage()));
+                    continue;
+                }
+                List<String> errors = validate(dto);
+                if (!errors.isEmpty()) {
+                    summary.failed++;
+                    writeError(report, record, line(parser), dto.getExternalId(), errors);
+                    continue;
+                }
+
+                Job job = jobService.toNormalizedEntity(dto);
+                // Two writes for the same key in one unordered batch could race each other
+                if (!batchIds.add(job.getExternalId())) {
+                    flush(batch, summary, report);
+                    batchIds.clear();
+                    batchIds.add(job.getExternalId());
+                }
+                batch.add(new PendingJob(record, line(parser), job));
+
+                if (batch.size() >= batchSize) {
+                    flush(batch, summary, report);
+                    batchIds.clear();
+                }
+            }
+        }
+
+        flush(batch, summary, report);
+        Ndjson.writeLine(objectMapper, report, Map.of("summary", summary));
+        report.flush();
+    }
+
+    private void flush(List<PendingJob> batch, ImportSummary summary, OutputStream report) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Job> before = new ArrayList<>();
+        List<Job> after = new ArrayList<>();
+        List<PendingJob> pending = new ArrayList<>(batch);
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            pending = write(pending, attempt == MAX_WRITE_ATTEMPTS, before, after, summary, report);
+        }
+        jobStatsService.recordChanges(before, after);
+        publishUpdated(after);
+
+        batch.clear();
+        report.flush();
+    }
+
+    // Each upsert only applies to the version that was just read (no document at all for a new external id),
+    // so the stats see the real pre-image. A write that lost a race hits the unique externalId index
+    // instead of applying, and is returned to be re-read and retried.
+    private List<PendingJob> write(List<PendingJob> pending, boolean lastAttempt, List<Job> before, List<Job> after,
+                                   ImportSummary summary, OutputStream report) throws IOException {
+        List<String> externalIds = pending.stream().map(p -> p.getJob().getExternalId()).toList();
+        Map<String, Job> existing = mongoTemplate.find(existingQuery(externalIds), Job.class).stream()
+                .collect(Collectors.toMap(Job::getExternalId, job -> job));
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+        for (PendingJob p : pending) {
+            Job previous = existing.get(p.getJob().getExternalId());
+            // Not an equality on null: an insert would copy version: null into the document and $inc would fail
+            Criteria version = previous != null && previous.getVersion() != null
+                    ? Criteria.where("version").is(previous.getVersion())
+                    : Criteria.where("version").exists(false);
+            bulk.upsert(new Query(Criteria.where("externalId").is(p.getJob().getExternalId()).andOperator(version)),
+                    upsertOf(p.getJob()));
+        }
+
+        Map<Integer, BulkWriteError> errors = new HashMap<>();
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error));
+        }
+
+        List<PendingJob> conflicted = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            PendingJob p = pending.get(i);
+            BulkWriteError error = errors.get(i);
+            if (error != null && error.getCode() == DUPLICATE_KEY && !lastAttempt) {
+                conflicted.add(p);
+                continue;
+            }
+            if (error != null) {
+                summary.failed++;
+                writeError(report, p.getRecord(), p.getLine(), p.getJob().getExternalId(), List.of(error.getMessage()));
+                continue;
+            }
+            Job job = p.getJob();
+            Job previous = existing.get(job.getExternalId());
+            // isActive is left untouched on update, so count the job with its stored state
+            job.setIsActive(previous != null ? previous.getIsActive() : Boolean.TRUE);
+            before.add(previous);
+            after.add(job);
+            summary.imported++;
+        }
+        return conflicted;
+    }
+
+    static Query existingQuery(Collection<String> externalIds) {
+        Query query = new Query(Criteria.where("externalId").in(externalIds));
+        query.fields().include("externalId", "jobType", "experienceLevel", "salaryRange", "isActive", "version");
+        return query;
+    }
+
+    // Upserted documents only get their id on the server, so look them all up by external id
+    private void publishUpdated(List<Job> imported) {
+        if (imported.isEmpty()) {
+            return;
+        }
+        Query query = new Query(Criteria.where("externalId").in(imported.stream().map(Job::getExternalId).toList()));
+        query.fields().include("_id");
+        List<String> jobIds = mongoTemplate.find(query, Job.class).stream().map(Job::getId).toList();
+        eventPublisher.publishEvent(new JobsUpdatedEvent(jobIds));
+    }
+
+    private Update upsertOf(Job job) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(job, document);
+
+        Update update = new Update();
+        for (String field : feedFields) {
+            Object value = document.get(field);
+            if (value != null) {
+                update.set(field, value);
+            } else {
+                update.unset(field);
+            }
+        }
+        update.setOnInsert("postedAt", document.get("postedAt"));
+        update.setOnInsert("isActive", true);
+        update.inc("version", 1);
+        return update;
+    }
+
+    private List<String> validate(JobDTO dto) {
+        List<String> errors = validator.validate(dto).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toList());
+        if (dto.getExternalId() == null || dto.getExternalId().isBlank()) {
+            errors.add("External id is required");
+        }
+        return errors;
+    }
+
+    private void writeError(OutputStream report, int record, int line, String externalId, List<String> errors)
+            throws IOException {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("record", record);
+        entry.put("line", line);
+        entry.put("externalId", externalId);
+        entry.put("errors", errors);
+        Ndjson.writeLine(objectMapper, report, entry);
+    }
+
+    private static int line(JsonParser parser) {
+        return parser.currentLocation().getLineNr();
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class PendingJob {
+        private int record;
+        private int line;
+        private Job job;
+    }
+
+    @Data
+    public static class ImportSummary {
+        private long received;
+        private long imported;
+        private long failed;
+    }
+}
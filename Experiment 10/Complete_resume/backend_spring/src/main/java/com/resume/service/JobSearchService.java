@@ -0,0 +1,252 @@
+package com.resume.service;
+
+import com.resume.event.JobChangedEvent;
+import com.resume.event.JobsExpiredEvent;
+import com.resume.event.JobsUpdatedEvent;
+import com.resume.model.Job;
+import com.resume.util.InvertedIndex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+
+// Serves /jobs?search from an in-memory BM25 index over title, description and requirements.
+// Until the first build finishes, isReady() is false and JobService falls back to $text.
+// Local writes are applied as they happen; writes made on other instances (or directly in MongoDB)
+// show up at the next full rebuild, i.e. within full-rebuild-interval + maintenance-interval.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobSearchService {
+
+    // Ranked results are only served this deep; offset + limit beyond it is rejected
+    public static final int MAX_RANKED_DEPTH = 10_000;
+
+    private static final Set<String> INDEXED_FIELDS = Set.of(
+            "title", "description", "requirements", "jobType", "experienceLevel",
+            "company", "location", "expiresAt");
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex<IndexedJob> index;
+    private Map<String, Integer> docIds = new HashMap<>();
+    private volatile boolean ready;
+    // Non-null while a rebuild is running; updates made meanwhile are replayed onto the new index
+    private volatile Set<String> changedDuringRebuild;
+    private volatile long builtAt;
+
+    @Value("${search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.boost.title:3.0}")
+    private float titleBoost;
+
+    @Value("${search.boost.description:1.0}")
+    private float descriptionBoost;
+
+    @Value("${search.boost.requirements:1.5}")
+    private float requirementsBoost;
+
+    @Value("${search.max-dead-ratio:0.25}")
+    private double maxDeadRatio;
+
+    @Value("${search.full-rebuild-interval-ms:300000}")
+    private long fullRebuildIntervalMs;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public SearchPage search(String query, Map<String, String> filters, long offset, int limit) {
+        if (offset < 0 || offset + limit > MAX_RANKED_DEPTH) {
+            throw new IllegalArgumentException("Search results are limited to the first " + MAX_RANKED_DEPTH
+                    + " matches; refine the query instead of paging further");
+        }
+        String jobType = filters.get("jobType");
+        String experienceLevel = filters.get("experienceLevel");
+        String location = normalizeKey(filters.get("location"));
+        String company = normalizeKey(filters.get("company"));
+        long now = toMillis(LocalDateTime.now());
+
+        lock.readLock().lock();
+        try {
+            InvertedIndex<IndexedJob> current = index;
+            IntPredicate accept = doc -> {
+                IndexedJob job = current.payload(doc);
+                return job.getExpiresAt() > now
+                        && (jobType == null || jobType.equals(job.getJobType()))
+                        && (experienceLevel == null || experienceLevel.equals(job.getExperienceLevel()))
+                        && (location == null || startsWith(job.getLocationKey(), location))
+                        && (company == null || startsWith(job.getCompanyKey(), company));
+            };
+
+            InvertedIndex.TopHits hits = current.search(query, accept, (int) offset + limit);
+            List<String> jobIds = new ArrayList<>();
+            for (int i = (int) offset; i < hits.docs().length; i++) {
+                jobIds.add(current.payload(hits.docs()[i]).getId());
+            }
+            return new SearchPage(jobIds, hits.total());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onJobsUpdated(JobsUpdatedEvent event) {
+        reindex(event.getJobIds());
+    }
+
+    @EventListener
+    public void onJobsExpired(JobsExpiredEvent event) {
+        reindex(event.getJobIds());
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!Collections.disjoint(event.getChanges().keySet(), INDEXED_FIELDS)) {
+            reindex(List.of(event.getJobId()));
+        }
+    }
+
+    // Builds the index the first time, again whenever too much of it is dead, and unconditionally once
+    // the last build is older than the full-rebuild interval so changes made elsewhere are picked up
+    @Scheduled(initialDelay = 0, fixedDelayString = "${search.maintenance-interval-ms:60000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        boolean needed;
+        lock.readLock().lock();
+        try {
+            needed = index == null || index.deadRatio() > maxDeadRatio
+                    || System.currentTimeMillis() - builtAt >= fullRebuildIntervalMs;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (needed) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        long startedAt = System.currentTimeMillis();
+        changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+        InvertedIndex<IndexedJob> built = new InvertedIndex<>(titleBoost, descriptionBoost, requirementsBoost);
+        Map<String, Integer> builtIds = new HashMap<>();
+        try (Stream<Job> jobs = mongoTemplate.stream(activeJobs(new Query()), Job.class)) {
+            jobs.forEach(job -> builtIds.put(job.getId(), add(built, job)));
+        }
+
+        Set<String> changed;
+        lock.writeLock().lock();
+        try {
+            index = built;
+            docIds = builtIds;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            builtAt = startedAt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        reindex(new ArrayList<>(changed));
+
+        log.info("Built job search index: {} jobs in {} ms",
+                built.liveCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void reindex(Collection<String> jobIds) {
+        if (!enabled || jobIds.isEmpty()) {
+            return;
+        }
+        Set<String> pending = changedDuringRebuild;
+        if (pending != null) {
+            pending.addAll(jobIds);
+        }
+
+        Map<String, Job> jobs = new HashMap<>();
+        mongoTemplate.find(activeJobs(new Query(Criteria.where("id").in(jobIds))), Job.class)
+                .forEach(job -> jobs.put(job.getId(), job));
+
+        lock.writeLock().lock();
+        try {
+            if (index == null) {
+                return;
+            }
+            for (String jobId : jobIds) {
+                Integer previous = docIds.remove(jobId);
+                if (previous != null) {
+                    index.remove(previous);
+                }
+                Job job = jobs.get(jobId);
+                if (job != null) {
+                    docIds.put(jobId, add(index, job));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int add(InvertedIndex<IndexedJob> target, Job job) {
+        IndexedJob indexed = new IndexedJob(job.getId(), job.getJobType(), job.getExperienceLevel(),
+                job.getLocationKey(), job.getCompanyKey(),
+                job.getExpiresAt() != null ? toMillis(job.getExpiresAt()) : Long.MAX_VALUE);
+        return target.add(indexed, job.getTitle(), job.getDescription(), job.getRequirements());
+    }
+
+    private static Query activeJobs(Query query) {
+        query.addCriteria(Criteria.where("isActive").is(true));
+        query.fields().include("title", "description", "requirements", "jobType", "experienceLevel",
+                "locationKey", "companyKey", "expiresAt");
+        return query;
+    }
+
+    private static boolean startsWith(String value, String prefix) {
+        return value != null && value.startsWith(prefix);
+    }
+
+    private static String normalizeKey(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class IndexedJob {
+        private String id;
+        private String jobType;
+        private String experienceLevel;
+        private String locationKey;
+        private String companyKey;
+        private long expiresAt;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class SearchPage {
+        private List<String> jobIds;
+        private long total;
+    }
+}
@@ -1,86 +1,219 @@
 package com.resume.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resume.dto.JobDTO;
 import com.resume.dto.JobResponse;
 import com.resume.dto.JobStatsResponse;
+import com.resume.event.JobChangedEvent;
+import com.resume.event.JobsUpdatedEvent;
 import com.resume.model.Job;
 import com.resume.repository.JobRepository;
+import com.resume.util.Bulkhead;
+import com.resume.util.FieldSelection;
+import com.resume.util.Ndjson;
+import com.resume.util.PageCursor;
+import com.resume.util.SkillTaxonomy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class JobService {
+public class JobService implements ApplicationRunner {
+
+    static final Set<String> JOB_FIELDS = Set.of(
+            "id", "title", "company", "description", "requirements", "location", "salaryRange",
+            "jobType", "keywords", "requiredSkills", "preferredSkills", "experienceLevel",
+            "isActive", "postedAt", "updatedAt", "expiresAt", "applicationUrl", "contactEmail");
+
+    static final Set<String> DEFAULT_LIST_FIELDS = Set.of(
+            "id", "title", "company", "description", "location", "salaryRange", "jobType",
+            "requiredSkills", "experienceLevel", "isActive", "postedAt", "expiresAt");
+
+    private static final int KEY_MIGRATION_BATCH_SIZE = 500;
+    private static final String NON_ASCII = "[^\\x00-\\x7F]";
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "externalId", "title", "company", "description", "requirements", "location", "salaryRange",
+            "jobType", "keywords", "requiredSkills", "preferredSkills", "experienceLevel",
+            "applicationUrl", "contactEmail", "expiresAt");
+
+    static final Sort LISTING_ORDER = Sort.by(Sort.Direction.DESC, "postedAt", "id");
 
     private final JobRepository jobRepository;
+    private final SkillTaxonomy skillTaxonomy;
+    private final ObjectMapper objectMapper;
+    private final MongoTemplate mongoTemplate;
+    private final JobStatsService jobStatsService;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobSearchService jobSearchService;
+    private final Bulkhead readBulkhead;
 
     public Job createJob(JobDTO jobDTO) {
-        Job job = mapToEntity(jobDTO);
+        Job job = toNormalizedEntity(jobDTO);
+
+        Job saved = jobRepository.save(job);
+        jobStatsService.recordChange(null, saved);
+        eventPublisher.publishEvent(new JobsUpdatedEvent(List.of(saved.getId())));
+        return saved;
+    }
 
-        if (job.getKeywords() != null) {
-            job.setKeywords(job.getKeywords().stream()
-                    .map(String::toLowerCase)
-                    .map(String::trim)
-                    .collect(Collectors.toList()));
+    public JobResponse getAllJobs(Map<String, String> filters, String fields, String cursor,
+                                  int page, int limit, boolean exactTotal) {
+        try (Bulkhead.Permit slot = readBulkhead.acquire()) {
+            return listJobs(filters, fields, cursor, page, limit, exactTotal);
         }
+    }
 
-        if (job.getRequiredSkills() != null) {
-            job.setRequiredSkills(job.getRequiredSkills().stream()
-                    .map(String::toLowerCase)
-                    .map(String::trim)
-                    .collect(Collectors.toList()));
+    private JobResponse listJobs(Map<String, String> filters, String fields, String cursor,
+                                 int page, int limit, boolean exactTotal) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, JOB_FIELDS, DEFAULT_LIST_FIELDS);
+        String search = filters.get("search");
+        if (search != null && !search.isEmpty() && jobSearchService.isReady()) {
+            return searchJobs(search, filters, selectedFields, page, limit);
         }
 
-        if (job.getPreferredSkills() != null) {
-            job.setPreferredSkills(job.getPreferredSkills().stream()
-                    .map(String::toLowerCase)
-                    .map(String::trim)
-                    .collect(Collectors.toList()));
+        Set<String> projection = new HashSet<>(selectedFields);
+        projection.add("postedAt");
+
+        Query filter = buildQuery(filters);
+        List<Job> jobs = jobRepository.findProjected(listingQuery(filter, cursor, page, limit), projection);
+        String nextCursor = null;
+        if (jobs.size() > limit) {
+            jobs = jobs.subList(0, limit);
+            Job last = jobs.get(limit - 1);
+            nextCursor = PageCursor.encode(last.getPostedAt(), last.getId());
         }
 
-        return jobRepository.save(job);
-    }
+        long total = jobRepository.countMatching(filter, exactTotal);
 
-    public JobResponse getAllJobs(Map<String, String> filters, int page, int limit) {
-        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "postedAt"));
-        Page<Job> jobPage;
+        return new JobResponse(
+                jobs.stream()
+                        .map(job -> FieldSelection.view(objectMapper, job, selectedFields))
+                        .collect(Collectors.toList()),
+                new JobResponse.PaginationInfo(page, limit, total, (int) ((total + limit - 1) / limit), nextCursor),
+                filters
+        );
+    }
 
-        String jobType = filters.get("jobType");
-        String experienceLevel = filters.get("experienceLevel");
-        String location = filters.get("location");
-        String company = filters.get("company");
-        String search = filters.get("search");
+    // Ranked by the in-memory index; only the page itself is read from MongoDB, in rank order.
+    // Relevance order has no stable keyset, so search results page by number only.
+    private JobResponse searchJobs(String search, Map<String, String> filters, Set<String> selectedFields,
+                                   int page, int limit) {
+        JobSearchService.SearchPage hits = jobSearchService.search(search, filters, (long) (page - 1) * limit, limit);
 
-        if (search != null && !search.isEmpty()) {
-            jobPage = jobRepository.findByTextSearch(search, pageable);
-        } else if (jobType != null && experienceLevel != null) {
-            jobPage = jobRepository.findByIsActiveAndJobTypeAndExperienceLevel(true, jobType, experienceLevel, pageable);
-        } else if (jobType != null) {
-            jobPage = jobRepository.findByIsActiveAndJobType(true, jobType, pageable);
-        } else if (experienceLevel != null) {
-            jobPage = jobRepository.findByIsActiveAndExperienceLevel(true, experienceLevel, pageable);
-        } else if (location != null) {
-            jobPage = jobRepository.findByIsActiveAndLocationRegex(true, location, pageable);
-        } else if (company != null) {
-            jobPage = jobRepository.findByIsActiveAndCompanyRegex(true, company, pageable);
-        } else {
-            jobPage = jobRepository.findByIsActive(true, pageable);
-        }
+        Map<String, Job> byId = jobRepository.findProjected(
+                        new Query(Criteria.where("id").in(hits.getJobIds())), selectedFields).stream()
+                .collect(Collectors.toMap(Job::getId, job -> job));
+        List<Map<String, Object>> jobs = hits.getJobIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(job -> FieldSelection.view(objectMapper, job, selectedFields))
+                .collect(Collectors.toList());
 
+        long total = hits.getTotal();
         return new JobResponse(
-                jobPage.getContent(),
-                new JobResponse.PaginationInfo(page, limit, jobPage.getTotalElements(), jobPage.getTotalPages()),
+                jobs,
+                new JobResponse.PaginationInfo(page, limit, total, (int) ((total + limit - 1) / limit), null),
                 filters
         );
     }
 
+    // Arguments are checked up front; the cursor is only opened once the response starts streaming
+    public StreamingResponseBody exportJobs(Map<String, String> filters, String fields) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, JOB_FIELDS, JOB_FIELDS);
+        Query query = buildQuery(filters).with(LISTING_ORDER);
+
+        return out -> {
+            try (Stream<Job> jobs = jobRepository.streamProjected(query, selectedFields)) {
+                Ndjson.writeAll(objectMapper, out, jobs, job -> FieldSelection.view(objectMapper, job, selectedFields));
+            }
+        };
+    }
+
+    // One row past the page tells whether there is a next one
+    static Query listingQuery(Query filter, String cursor, int page, int limit) {
+        Query query = Query.of(filter).with(LISTING_ORDER).limit(limit + 1);
+        if (cursor != null) {
+            query.addCriteria(PageCursor.after("postedAt", cursor));
+        } else if (page > 1) {
+            // Numbered pages still skip; clients paging deep should follow nextCursor instead
+            query.skip((long) (page - 1) * limit);
+        }
+        return query;
+    }
+
+    // Every supplied filter narrows the same query; each one is backed by an index
+    static Query buildQuery(Map<String, String> filters) {
+        String search = filters.get("search");
+        Query query = search != null && !search.isEmpty()
+                ? TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(search))
+                : new Query();
+
+        query.addCriteria(Criteria.where("isActive").is(true));
+        // Expired jobs stay active until the next sweep; $not also keeps jobs without expiresAt.
+        // Whole minutes keep the query (and so its cached count) stable between requests.
+        query.addCriteria(Criteria.where("expiresAt").not().lte(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES)));
+        if (filters.get("jobType") != null) {
+            query.addCriteria(Criteria.where("jobType").is(filters.get("jobType")));
+        }
+        if (filters.get("experienceLevel") != null) {
+            query.addCriteria(Criteria.where("experienceLevel").is(filters.get("experienceLevel")));
+        }
+        if (filters.get("location") != null) {
+            query.addCriteria(Criteria.where("locationKey").regex(prefixPattern(filters.get("location"))));
+        }
+        if (filters.get("company") != null) {
+            query.addCriteria(Criteria.where("companyKey").regex(prefixPattern(filters.get("company"))));
+        }
+        return query;
+    }
+
+    // Case-sensitive and anchored, so MongoDB turns it into a bounded index range scan
+    private static String prefixPattern(String value) {
+        String key = normalizeKey(value);
+        StringBuilder pattern = new StringBuilder(key.length() + 8).append('^');
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.toString();
+    }
+
+    private static String normalizeKey(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
     public Job getJob(String id) {
         return jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
@@ -88,86 +221,206 @@ public class JobService {
 
     public Job updateJob(String id, JobDTO jobDTO) {
         Job existingJob = getJob(id);
-        Job updatedJob = mapToEntity(jobDTO);
+        Job updatedJob = toNormalizedEntity(jobDTO);
         updatedJob.setId(existingJob.getId());
         updatedJob.setPostedAt(existingJob.getPostedAt());
         updatedJob.setIsActive(existingJob.getIsActive());
+        updatedJob.setVersion(existingJob.getVersion());
+        if (updatedJob.getExternalId() == null) {
+            updatedJob.setExternalId(existingJob.getExternalId());
+        }
 
-        if (updatedJob.getKeywords() != null) {
-            updatedJob.setKeywords(updatedJob.getKeywords().stream()
-                    .map(String::toLowerCase)
-                    .map(String::trim)
-                    .collect(Collectors.toList()));
+        Job saved = jobRepository.save(updatedJob);
+        jobStatsService.recordChange(existingJob, saved);
+        eventPublisher.publishEvent(new JobsUpdatedEvent(List.of(saved.getId())));
+        return saved;
+    }
+
+    // Writes only the supplied fields, and only if the job is still at the version the client read
+    public Job patchJob(String id, Map<String, Object> changes) {
+        Object expectedVersion = changes.get("version");
+        if (!(expectedVersion instanceof Number)) {
+            throw new IllegalArgumentException("version is required");
+        }
+        Set<String> fields = new LinkedHashSet<>(changes.keySet());
+        fields.remove("version");
+        for (String field : fields) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be patched: " + field);
+            }
         }
 
-        if (updatedJob.getRequiredSkills() != null) {
-            updatedJob.setRequiredSkills(updatedJob.getRequiredSkills().stream()
-                    .map(String::toLowerCase)
-                    .map(String::trim)
-                    .collect(Collectors.toList()));
+        Map<String, Object> dtoFields = new HashMap<>(changes);
+        dtoFields.remove("version");
+        JobDTO dto = objectMapper.convertValue(dtoFields, JobDTO.class);
+        Set<ConstraintViolation<?>> violations = new HashSet<>();
+        fields.forEach(field -> violations.addAll(validator.validateProperty(dto, field)));
+        // validateProperty does not cascade into @Valid members
+        if (dto.getSalaryRange() != null) {
+            violations.addAll(validator.validate(dto.getSalaryRange()));
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
         }
 
-        if (updatedJob.getPreferredSkills() != null) {
-            updatedJob.setPreferredSkills(updatedJob.getPreferredSkills().stream()
-                    .map(String::toLowerCase)
-                    .map(String::trim)
-                    .collect(Collectors.toList()));
+        BeanWrapper patched = new BeanWrapperImpl(toNormalizedEntity(dto));
+        Update update = new Update().inc("version", 1);
+        LocalDateTime now = LocalDateTime.now();
+        update.set("updatedAt", now);
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, patched.getPropertyValue(field));
         }
+        if (fields.contains("company")) {
+            values.put("companyKey", patched.getPropertyValue("companyKey"));
+        }
+        if (fields.contains("location")) {
+            values.put("locationKey", patched.getPropertyValue("locationKey"));
+        }
+        // Cleared fields are removed rather than stored as null: the sparse unique index on externalId
+        // still indexes explicit nulls, so a second job cleared to null would collide with the first
+        values.forEach((field, value) -> {
+            if (value == null) {
+                update.unset(field);
+            } else {
+                update.set(field, value);
+            }
+        });
 
-        return jobRepository.save(updatedJob);
+        Job before = mongoTemplate.findAndModify(
+                new Query(Criteria.where("id").is(id).and("version").is(((Number) expectedVersion).longValue())),
+                update,
+                Job.class);
+        if (before == null) {
+            Job current = getJob(id);
+            throw new OptimisticLockingFailureException(
+                    "Job was modified concurrently (current version " + current.getVersion() + ")");
+        }
+
+        Job after = copyOf(before);
+        BeanWrapper afterWrapper = new BeanWrapperImpl(after);
+        values.forEach(afterWrapper::setPropertyValue);
+        after.setVersion(before.getVersion() + 1);
+        after.setUpdatedAt(now);
+
+        Map<String, JobChangedEvent.FieldChange> changed = new LinkedHashMap<>();
+        BeanWrapper beforeWrapper = new BeanWrapperImpl(before);
+        for (String field : fields) {
+            Object oldValue = beforeWrapper.getPropertyValue(field);
+            Object newValue = afterWrapper.getPropertyValue(field);
+            if (!Objects.equals(oldValue, newValue)) {
+                changed.put(field, new JobChangedEvent.FieldChange(oldValue, newValue));
+            }
+        }
+
+        jobStatsService.recordChange(before, after);
+        // Published even when no value changed: the version still moved, so cached ETags must go
+        eventPublisher.publishEvent(new JobChangedEvent(id, after.getVersion(), changed));
+        return after;
     }
 
     public void deleteJob(String id) {
-        Job job = getJob(id);
-        job.setIsActive(false);
-        jobRepository.save(job);
+        // Returns the job as it was, and only when this call is the one that deactivated it
+        Job deactivated = mongoTemplate.findAndModify(
+                new Query(Criteria.where("id").is(id).and("isActive").is(true)),
+                new Update().set("isActive", false).set("updatedAt", LocalDateTime.now()).inc("version", 1),
+                Job.class);
+
+        if (deactivated == null) {
+            getJob(id);
+            return;
+        }
+        jobStatsService.recordChange(deactivated, null);
+        eventPublisher.publishEvent(new JobsUpdatedEvent(List.of(id)));
     }
 
     public JobStatsResponse getJobStats() {
-        List<Job> activeJobs = jobRepository.findTop50ByIsActiveOrderByPostedAtDesc(true);
+        return jobStatsService.getStats();
+    }
 
-        if (activeJobs.isEmpty()) {
-            return new JobStatsResponse(0, new HashMap<>(), new HashMap<>(),
-                    new JobStatsResponse.AverageSalary(0, 0));
-        }
+    // Derives the lookup keys for jobs written before they existed, with the same normalizeKey new jobs use.
+    // Also repairs keys from the earlier server-side migration: $toLower only lowercases ASCII, so any key
+    // holding a non-ASCII character is recomputed.
+    @Override
+    public void run(ApplicationArguments args) {
+        long updated = 0;
+        Object lastId = null;
+        List<Document> batch;
+        do {
+            Query query = new Query(new Criteria().orOperator(
+                    Criteria.where("companyKey").exists(false),
+                    Criteria.where("companyKey").regex(NON_ASCII),
+                    Criteria.where("locationKey").regex(NON_ASCII)))
+                    .with(Sort.by("_id"))
+                    .limit(KEY_MIGRATION_BATCH_SIZE);
+            if (lastId != null) {
+                query.addCriteria(Criteria.where("_id").gt(lastId));
+            }
+            query.fields().include("company", "location", "companyKey", "locationKey");
 
-        long totalJobs = jobRepository.countByIsActive(true);
+            batch = mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Job.class));
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+            int pending = 0;
+            for (Document document : batch) {
+                lastId = document.get("_id");
+                String company = document.getString("company");
+                String location = document.getString("location");
+                String companyKey = normalizeKey(company);
+                String locationKey = normalizeKey(location);
+                if (document.containsKey("companyKey") && Objects.equals(companyKey, document.getString("companyKey"))
+                        && Objects.equals(locationKey, document.getString("locationKey"))) {
+                    continue;
+                }
+                // A concurrent write that changed company or location has already set its own keys
+                bulk.updateOne(
+                        new Query(Criteria.where("_id").is(lastId).and("company").is(company).and("location").is(location)),
+                        new Update().set("companyKey", companyKey).set("locationKey", locationKey));
+                pending++;
+            }
+            if (pending > 0) {
+                updated += bulk.execute().getModifiedCount();
+            }
+        } while (batch.size() == KEY_MIGRATION_BATCH_SIZE);
 
-        Map<String, Long> jobTypeCounts = activeJobs.stream()
-                .filter(job -> job.getJobType() != null)
-                .collect(Collectors.groupingBy(Job::getJobType, Collectors.counting()));
+        if (updated > 0) {
+            log.info("Derived company/location keys for {} jobs", updated);
+        }
 
-        Map<String, Long> experienceCounts = activeJobs.stream()
-                .filter(job -> job.getExperienceLevel() != null)
-                .collect(Collectors.groupingBy(Job::getExperienceLevel, Collectors.counting()));
+        // Jobs written before optimistic locking need a version to be saved or patched
+        long versioned = mongoTemplate.updateMulti(
+                new Query(Criteria.where("version").exists(false)),
+                new Update().set("version", 0L),
+                Job.class).getModifiedCount();
 
-        double avgMin = activeJobs.stream()
-                .filter(job -> job.getSalaryRange() != null && job.getSalaryRange().getMin() != null)
-                .mapToInt(job -> job.getSalaryRange().getMin())
-                .average()
-                .orElse(0.0);
+        if (versioned > 0) {
+            log.info("Initialized version of {} jobs", versioned);
+        }
+    }
 
-        double avgMax = activeJobs.stream()
-                .filter(job -> job.getSalaryRange() != null && job.getSalaryRange().getMax() != null)
-                .mapToInt(job -> job.getSalaryRange().getMax())
-                .average()
-                .orElse(0.0);
+    private Job copyOf(Job job) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(job, document);
+        return mongoTemplate.getConverter().read(Job.class, document);
+    }
 
-        return new JobStatsResponse(
-                totalJobs,
-                jobTypeCounts,
-                experienceCounts,
-                new JobStatsResponse.AverageSalary(Math.round(avgMin), Math.round(avgMax))
-        );
+    Job toNormalizedEntity(JobDTO dto) {
+        Job job = mapToEntity(dto);
+        job.setKeywords(skillTaxonomy.normalize(job.getKeywords()));
+        job.setRequiredSkills(skillTaxonomy.normalize(job.getRequiredSkills()));
+        job.setPreferredSkills(skillTaxonomy.normalize(job.getPreferredSkills()));
+        return job;
     }
 
     private Job mapToEntity(JobDTO dto) {
         Job job = new Job();
+        job.setExternalId(dto.getExternalId() != null ? dto.getExternalId().trim() : null);
         job.setTitle(dto.getTitle() != null ? dto.getTitle().trim() : null);
         job.setCompany(dto.getCompany() != null ? dto.getCompany().trim() : null);
         job.setDescription(dto.getDescription());
         job.setRequirements(dto.getRequirements());
         job.setLocation(dto.getLocation() != null ? dto.getLocation().trim() : null);
+        job.setCompanyKey(normalizeKey(job.getCompany()));
+        job.setLocationKey(normalizeKey(job.getLocation()));
         job.setJobType(dto.getJobType());
         job.setKeywords(dto.getKeywords());
         job.setRequiredSkills(dto.getRequiredSkills());
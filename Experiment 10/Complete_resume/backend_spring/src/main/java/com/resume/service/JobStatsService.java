@@ -0,0 +1,177 @@
+package com.resume.service;
+
+import com.resume.dto.JobStatsResponse;
+import com.resume.model.Job;
+import com.resume.model.JobStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobStatsService implements ApplicationRunner {
+
+    private static final String STATS_ID = "active-jobs";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final AtomicReference<JobStats> current = new AtomicReference<>(new JobStats());
+
+    public JobStatsResponse getStats() {
+        JobStats stats = current.get();
+        return new JobStatsResponse(
+                stats.getTotalJobs(),
+                nonZero(stats.getJobTypes()),
+                nonZero(stats.getExperienceLevels()),
+                new JobStatsResponse.AverageSalary(
+                        average(stats.getSalaryMinSum(), stats.getSalaryMinCount()),
+                        average(stats.getSalaryMaxSum(), stats.getSalaryMaxCount())),
+                stats.getVersion(),
+                stats.getUpdatedAt()
+        );
+    }
+
+    // before/after are the job as stored before and after the change; null or inactive jobs count for nothing
+    public void recordChange(Job before, Job after) {
+        recordChanges(Collections.singletonList(before), Collections.singletonList(after));
+    }
+
+    // Folds a whole batch of changes into one $inc
+    public void recordChanges(List<Job> before, List<Job> after) {
+        Map<String, Long> deltas = new HashMap<>();
+        before.forEach(job -> contribute(deltas, job, -1));
+        after.forEach(job -> contribute(deltas, job, 1));
+
+        Update update = new Update();
+        deltas.forEach((field, delta) -> {
+            if (delta != 0) {
+                update.inc(field, delta);
+            }
+        });
+        if (update.getUpdateObject().isEmpty()) {
+            return;
+        }
+        update.inc("version", 1).set("updatedAt", LocalDateTime.now());
+
+        JobStats updated = mongoTemplate.findAndModify(
+                statsQuery(), update, FindAndModifyOptions.options().returnNew(true).upsert(true), JobStats.class);
+        publish(updated);
+    }
+
+    // Picks up increments made by other instances
+    @Scheduled(fixedDelayString = "${jobs.stats.refresh-interval-ms:30000}",
+            initialDelayString = "${jobs.stats.refresh-interval-ms:30000}")
+    public void refresh() {
+        JobStats stats = mongoTemplate.findOne(statsQuery(), JobStats.class);
+        if (stats != null) {
+            publish(stats);
+        }
+    }
+
+    // Builds the counters from the jobs collection the first time, or when the stats document is lost
+    @Override
+    public void run(ApplicationArguments args) {
+        if (mongoTemplate.exists(statsQuery(), JobStats.class)) {
+            refresh();
+        } else {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        Map<String, Long> totals = new HashMap<>();
+        Query active = new Query(Criteria.where("isActive").is(true));
+        active.fields().include("jobType", "experienceLevel", "salaryRange", "isActive");
+        try (Stream<Job> jobs = mongoTemplate.stream(active, Job.class)) {
+            jobs.forEach(job -> contribute(totals, job, 1));
+        }
+
+        JobStats stats = new JobStats();
+        stats.setId(STATS_ID);
+        totals.forEach((field, total) -> {
+            if (field.startsWith("jobTypes.")) {
+                stats.getJobTypes().put(field.substring("jobTypes.".length()), total);
+            } else if (field.startsWith("experienceLevels.")) {
+                stats.getExperienceLevels().put(field.substring("experienceLevels.".length()), total);
+            }
+        });
+        stats.setTotalJobs(totals.getOrDefault("totalJobs", 0L));
+        stats.setSalaryMinSum(totals.getOrDefault("salaryMinSum", 0L));
+        stats.setSalaryMinCount(totals.getOrDefault("salaryMinCount", 0L));
+        stats.setSalaryMaxSum(totals.getOrDefault("salaryMaxSum", 0L));
+        stats.setSalaryMaxCount(totals.getOrDefault("salaryMaxCount", 0L));
+        // Never reuse a version an earlier document already handed out
+        JobStats previous = mongoTemplate.findOne(statsQuery(), JobStats.class);
+        stats.setVersion(Math.max(previous != null ? previous.getVersion() : 0, current.get().getVersion()) + 1);
+        stats.setUpdatedAt(LocalDateTime.now());
+
+        publish(mongoTemplate.save(stats));
+
+        log.info("Built job stats from {} active jobs", stats.getTotalJobs());
+    }
+
+    // Concurrent writers and refreshes finish in any order; only ever move to a newer document
+    private void publish(JobStats stats) {
+        current.accumulateAndGet(stats, (held, candidate) -> candidate.getVersion() > held.getVersion() ? candidate : held);
+    }
+
+    private void contribute(Map<String, Long> deltas, Job job, long sign) {
+        if (job == null || !Boolean.TRUE.equals(job.getIsActive())) {
+            return;
+        }
+
+        deltas.merge("totalJobs", sign, Long::sum);
+        if (job.getJobType() != null) {
+            deltas.merge("jobTypes." + job.getJobType(), sign, Long::sum);
+        }
+        if (job.getExperienceLevel() != null) {
+            deltas.merge("experienceLevels." + job.getExperienceLevel(), sign, Long::sum);
+        }
+
+        Job.SalaryRange salary = job.getSalaryRange();
+        if (salary != null && salary.getMin() != null) {
+            deltas.merge("salaryMinSum", sign * salary.getMin(), Long::sum);
+            deltas.merge("salaryMinCount", sign, Long::sum);
+        }
+        if (salary != null && salary.getMax() != null) {
+            deltas.merge("salaryMaxSum", sign * salary.getMax(), Long::sum);
+            deltas.merge("salaryMaxCount", sign, Long::sum);
+        }
+    }
+
+    private Query statsQuery() {
+        return new Query(Criteria.where("id").is(STATS_ID));
+    }
+
+    private static Map<String, Long> nonZero(Map<String, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.forEach((key, count) -> {
+            if (count != null && count > 0) {
+                result.put(key, count);
+            }
+        });
+        return result;
+    }
+
+    private static long average(long sum, long count) {
+        return count > 0 ? Math.round((double) sum / count) : 0;
+    }
+}
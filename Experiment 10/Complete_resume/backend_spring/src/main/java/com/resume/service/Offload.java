@@ -0,0 +1,22 @@
+package com.resume.service;
+
+import com.resume.exception.CapacityExceededException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+// Runs blocking or CPU-heavy work off the event loop; a saturated pool answers 503 instead of queueing without bound
+final class Offload {
+
+    private Offload() {
+    }
+
+    static <T> Mono<T> on(Scheduler scheduler, Callable<T> task) {
+        return Mono.fromCallable(task)
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new CapacityExceededException("Server is busy. Please retry shortly."));
+    }
+}
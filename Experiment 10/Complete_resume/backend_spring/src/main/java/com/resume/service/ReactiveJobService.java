@@ -0,0 +1,130 @@
+package com.resume.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.dto.JobDTO;
+import com.resume.dto.JobResponse;
+import com.resume.model.Job;
+import com.resume.repository.JobRepository;
+import com.resume.repository.ReactiveJobRepository;
+import com.resume.util.FieldSelection;
+import com.resume.util.PageCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Reads go straight to the reactive driver. Writes stay in JobService, because they also feed
+// stats, the search index and the ETag map; they run on the bounded blocking scheduler.
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveJobService {
+
+    private final ReactiveJobRepository reactiveJobRepository;
+    private final JobRepository jobRepository;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final JobService jobService;
+    private final JobSearchService jobSearchService;
+    private final ObjectMapper objectMapper;
+    private final Scheduler blockingScheduler;
+    private final Scheduler cpuScheduler;
+
+    public Mono<JobResponse> getAllJobs(Map<String, String> filters, String fields, String cursor,
+                                        int page, int limit, boolean exactTotal) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, JobService.JOB_FIELDS, JobService.DEFAULT_LIST_FIELDS);
+        String search = filters.get("search");
+        if (search != null && !search.isEmpty() && jobSearchService.isReady()) {
+            return searchJobs(search, filters, selectedFields, page, limit);
+        }
+
+        Set<String> projection = new HashSet<>(selectedFields);
+        projection.add("postedAt");
+
+        Query filter = JobService.buildQuery(filters);
+        Query query = JobService.listingQuery(filter, cursor, page, limit);
+        projection.forEach(query.fields()::include);
+
+        Mono<List<Job>> jobs = reactiveMongoTemplate.find(query, Job.class).collectList();
+        // Same estimated totals as the servlet listing; the count cache is shared and blocking
+        Mono<Long> total = Offload.on(blockingScheduler, () -> jobRepository.countMatching(filter, exactTotal));
+
+        return Mono.zip(jobs, total).map(result -> {
+            List<Job> found = result.getT1();
+            String nextCursor = null;
+            if (found.size() > limit) {
+                found = found.subList(0, limit);
+                Job last = found.get(limit - 1);
+                nextCursor = PageCursor.encode(last.getPostedAt(), last.getId());
+            }
+            return response(found, selectedFields, filters, page, limit, result.getT2(), nextCursor);
+        });
+    }
+
+    public Flux<Map<String, Object>> exportJobs(Map<String, String> filters, String fields) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, JobService.JOB_FIELDS, JobService.JOB_FIELDS);
+        Query query = JobService.buildQuery(filters).with(JobService.LISTING_ORDER).cursorBatchSize(500);
+        selectedFields.forEach(query.fields()::include);
+
+        return reactiveMongoTemplate.find(query, Job.class)
+                .map(job -> FieldSelection.view(objectMapper, job, selectedFields));
+    }
+
+    public Mono<Job> getJob(String id) {
+        return reactiveJobRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Job not found")));
+    }
+
+    public Mono<Job> createJob(JobDTO jobDTO) {
+        return Offload.on(blockingScheduler, () -> jobService.createJob(jobDTO));
+    }
+
+    public Mono<Job> updateJob(String id, JobDTO jobDTO) {
+        return Offload.on(blockingScheduler, () -> jobService.updateJob(id, jobDTO));
+    }
+
+    public Mono<Job> patchJob(String id, Map<String, Object> changes) {
+        return Offload.on(blockingScheduler, () -> jobService.patchJob(id, changes));
+    }
+
+    public Mono<Void> deleteJob(String id) {
+        return Offload.on(blockingScheduler, () -> {
+            jobService.deleteJob(id);
+            return true;
+        }).then();
+    }
+
+    // Ranking is CPU work on the in-memory index; only the page itself is read from MongoDB
+    private Mono<JobResponse> searchJobs(String search, Map<String, String> filters, Set<String> selectedFields,
+                                         int page, int limit) {
+        return Offload.on(cpuScheduler, () -> jobSearchService.search(search, filters, (long) (page - 1) * limit, limit))
+                .flatMap(hits -> {
+                    Query query = new Query(Criteria.where("id").in(hits.getJobIds()));
+                    selectedFields.forEach(query.fields()::include);
+                    return reactiveMongoTemplate.find(query, Job.class)
+                            .collectMap(Job::getId, Function.identity())
+                            .map(byId -> response(
+                                    hits.getJobIds().stream().map(byId::get).filter(Objects::nonNull).toList(),
+                                    selectedFields, filters, page, limit, hits.getTotal(), null));
+                });
+    }
+
+    private JobResponse response(List<Job> jobs, Set<String> selectedFields, Map<String, String> filters,
+                                 int page, int limit, long total, String nextCursor) {
+        return new JobResponse(
+                jobs.stream()
+                        .map(job -> FieldSelection.view(objectMapper, job, selectedFields))
+                        .collect(Collectors.toList()),
+                new JobResponse.PaginationInfo(page, limit, total, (int) ((total + limit - 1) / limit), nextCursor),
+                filters
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.resume.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.dto.MatchHistoryResponse;
+import com.resume.dto.MatchResponse;
+import com.resume.dto.ResumeResponse;
+import com.resume.model.Resume;
+import com.resume.repository.ReactiveResumeRepository;
+import com.resume.util.FieldSelection;
+import com.resume.util.PageCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Reactive counterpart of ResumeService: listings and lookups use the reactive driver, while
+// parsing and scoring run on the bounded CPU scheduler through the existing ResumeService.
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveResumeService {
+
+    private final ReactiveResumeRepository reactiveResumeRepository;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ResumeService resumeService;
+    private final ObjectMapper objectMapper;
+    private final Scheduler blockingScheduler;
+    private final Scheduler cpuScheduler;
+
+    // The part is spooled to a temporary file without blocking, then parsed off the event loop
+    public Mono<Map<String, Object>> uploadResume(FilePart part) {
+        return Mono.usingWhen(
+                Offload.on(blockingScheduler, () -> Files.createTempFile("upload-", ".part")),
+                spooled -> part.transferTo(spooled)
+                        .then(Offload.on(cpuScheduler, () -> resumeService.uploadResume(new SpooledFile(part, spooled)))),
+                spooled -> Offload.on(blockingScheduler, () -> Files.deleteIfExists(spooled)));
+    }
+
+    public Mono<ResumeResponse> getAllResumes(String fields, String cursor, int page, int limit) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, ResumeService.RESUME_FIELDS,
+                ResumeService.DEFAULT_LIST_FIELDS);
+        Set<String> projection = new HashSet<>(selectedFields);
+        projection.add("uploadedAt");
+
+        Query query = ResumeService.listingQuery(cursor, page, limit);
+        projection.forEach(query.fields()::include);
+
+        // The listing is unfiltered, so collection metadata gives the total without a scan
+        Mono<List<Resume>> resumes = reactiveMongoTemplate.find(query, Resume.class).collectList();
+        Mono<Long> total = reactiveMongoTemplate.estimatedCount(Resume.class);
+
+        return Mono.zip(resumes, total).map(result -> {
+            List<Resume> found = result.getT1();
+            String nextCursor = null;
+            if (found.size() > limit) {
+                found = found.subList(0, limit);
+                Resume last = found.get(limit - 1);
+                nextCursor = PageCursor.encode(last.getUploadedAt(), last.getId());
+            }
+            long count = result.getT2();
+            return new ResumeResponse(
+                    found.stream()
+                            .map(resume -> FieldSelection.view(objectMapper, resume, selectedFields))
+                            .collect(Collectors.toList()),
+                    new ResumeResponse.PaginationInfo(page, limit, count, (int) ((count + limit - 1) / limit), nextCursor)
+            );
+        });
+    }
+
+    public Flux<Map<String, Object>> exportResumes(String fields) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, ResumeService.RESUME_FIELDS,
+                ResumeService.DEFAULT_LIST_FIELDS);
+        Query query = new Query().with(ResumeService.LISTING_ORDER).cursorBatchSize(500);
+        selectedFields.forEach(query.fields()::include);
+
+        return reactiveMongoTemplate.find(query, Resume.class)
+                .map(resume -> FieldSelection.view(objectMapper, resume, selectedFields));
+    }
+
+    public Mono<Resume> getResume(String id) {
+        return reactiveResumeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Resume not found")));
+    }
+
+    public Mono<Resume> getResumeByHash(String sha256) {
+        return reactiveResumeRepository.findByContentHash(sha256.toLowerCase())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Resume not found")));
+    }
+
+    public Mono<Path> getResumeFile(Resume resume) {
+        return Offload.on(blockingScheduler, () -> resumeService.getResumeFile(resume));
+    }
+
+    public Mono<String> getResumeText(String id) {
+        return Offload.on(blockingScheduler, () -> resumeService.getResumeText(id));
+    }
+
+    public Mono<MatchHistoryResponse> getMatchHistory(String id, int page, int limit) {
+        return Offload.on(blockingScheduler, () -> resumeService.getMatchHistory(id, page, limit));
+    }
+
+    public Mono<Void> deleteResume(String id) {
+        return Offload.on(blockingScheduler, () -> {
+            resumeService.deleteResume(id);
+            return true;
+        }).then();
+    }
+
+    public Mono<MatchResponse> matchJobs(String resumeId, int limit) {
+        return Offload.on(cpuScheduler, () -> resumeService.matchJobs(resumeId, limit));
+    }
+
+    // Presents a spooled FilePart to ResumeService, which stores uploads by moving them into place
+    private static class SpooledFile implements MultipartFile {
+        private final FilePart part;
+        private final Path path;
+
+        private SpooledFile(FilePart part, Path path) {
+            this.part = part;
+            this.path = path;
+        }
+
+        @Override
+        public String getName() {
+            return part.name();
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return part.filename();
+        }
+
+        @Override
+        public String getContentType() {
+            MediaType contentType = part.headers().getContentType();
+            return contentType != null ? contentType.toString() : null;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.move(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
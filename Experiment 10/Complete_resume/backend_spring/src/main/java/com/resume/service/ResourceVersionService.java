@@ -0,0 +1,187 @@
+package com.resume.service;
+
+import com.resume.dto.JobStatsResponse;
+import com.resume.event.JobChangedEvent;
+import com.resume.event.JobsExpiredEvent;
+import com.resume.event.JobsUpdatedEvent;
+import com.resume.model.Job;
+import com.resume.model.Resume;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Remembers the ETag last served for each resource, so a matching If-None-Match is answered
+// without reading the entity. Writes in this instance evict their entries; the TTL bounds how
+// long a write made by another instance can go unnoticed.
+// A read races the writes: it may load v1 just before a write evicts the key and then record v1 after
+// it. Reads therefore take a stamp() before loading the entity, eviction leaves a stamped marker
+// behind, and record() drops a tag whose key was evicted after that stamp.
+@Service
+public class ResourceVersionService {
+
+    public static final String STATS_KEY = "jobs/stats";
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    // Guarded by tags: a null tag marks a key evicted at that stamp
+    private final Map<String, Slot> tags = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Slot> eldest) {
+            if (size() <= MAX_ENTRIES) {
+                return false;
+            }
+            // Once a marker is gone, reads that started before it can no longer be told apart
+            if (eldest.getValue().getTag() == null) {
+                forgottenStamp = Math.max(forgottenStamp, eldest.getValue().getStamp());
+            }
+            return true;
+        }
+    };
+    private long lastStamp;
+    private long forgottenStamp;
+
+    @Value("${http.etag-cache-ttl:60s}")
+    private Duration ttl;
+
+    public static String jobKey(String id) {
+        return "jobs/" + id;
+    }
+
+    public static String resumeKey(String id) {
+        return "resumes/" + id;
+    }
+
+    // Taken before reading an entity whose tag will be recorded
+    public long stamp() {
+        synchronized (tags) {
+            return lastStamp;
+        }
+    }
+
+    public Tag recordJob(Job job, long readStamp) {
+        return record(jobKey(job.getId()),
+                "\"job-" + job.getId() + "-" + (job.getVersion() != null ? job.getVersion() : 0) + "\"",
+                job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getPostedAt(), readStamp);
+    }
+
+    public Tag recordResume(Resume resume, long readStamp) {
+        return record(resumeKey(resume.getId()),
+                "\"resume-" + resume.getId() + "-" + (resume.getVersion() != null ? resume.getVersion() : 0) + "\"",
+                resume.getUpdatedAt() != null ? resume.getUpdatedAt() : resume.getUploadedAt(), readStamp);
+    }
+
+    public Tag recordStats(JobStatsResponse stats) {
+        // Stats are served from memory and never evicted, so there is no earlier read to race
+        return record(STATS_KEY, "\"stats-" + stats.getVersion() + "\"", stats.getUpdatedAt(), stamp());
+    }
+
+    // The remembered tag when the request's validators show the client already has it, otherwise null
+    public Tag notModified(String key, HttpHeaders request) {
+        Tag tag;
+        synchronized (tags) {
+            Slot slot = tags.get(key);
+            tag = slot != null ? slot.getTag() : null;
+            if (tag != null && System.nanoTime() - tag.getRecordedAt() >= ttl.toNanos()) {
+                tags.remove(key);
+                tag = null;
+            }
+        }
+        return tag != null && matches(tag, request) ? tag : null;
+    }
+
+    // Whether the request's validators show the client already has this tag
+    public boolean matches(Tag tag, HttpHeaders request) {
+        String ifNoneMatch = request.getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, tag.getEtag());
+        }
+        // HTTP dates have whole-second precision
+        long ifModifiedSince = ifModifiedSince(request);
+        return ifModifiedSince >= 0 && tag.getLastModified() >= 0
+                && tag.getLastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    // The tag is always returned for the response, but only remembered if the key was not evicted since readStamp
+    public Tag record(String key, String etag, LocalDateTime lastModified, long readStamp) {
+        Tag tag = new Tag(etag,
+                lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1,
+                System.nanoTime());
+        synchronized (tags) {
+            Slot slot = tags.get(key);
+            boolean evictedSince = slot != null ? slot.getStamp() > readStamp : forgottenStamp > readStamp;
+            if (!evictedSince) {
+                tags.put(key, new Slot(tag, slot != null ? slot.getStamp() : 0));
+            }
+        }
+        return tag;
+    }
+
+    public void evict(String key) {
+        synchronized (tags) {
+            tags.put(key, new Slot(null, ++lastStamp));
+        }
+    }
+
+    @EventListener
+    public void onJobsUpdated(JobsUpdatedEvent event) {
+        event.getJobIds().forEach(id -> evict(jobKey(id)));
+    }
+
+    @EventListener
+    public void onJobsExpired(JobsExpiredEvent event) {
+        event.getJobIds().forEach(id -> evict(jobKey(id)));
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        evict(jobKey(event.getJobId()));
+    }
+
+    // If-None-Match uses the weak comparison, so W/ prefixes are ignored on both sides
+    private static boolean matchesAny(String header, String etag) {
+        String ours = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(ours)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long ifModifiedSince(HttpHeaders request) {
+        try {
+            return request.getIfModifiedSince();
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class Slot {
+        private Tag tag;
+        private long stamp;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Tag {
+        private String etag;
+        private long lastModified;
+        private long recordedAt;
+    }
+}
@@ -1,66 +1,107 @@
 package com.resume.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.dto.MatchHistoryResponse;
 import com.resume.dto.MatchResponse;
 import com.resume.dto.ResumeResponse;
+import com.resume.exception.CapacityExceededException;
+import com.resume.model.MatchHistoryEntry;
 import com.resume.model.Resume;
+import com.resume.repository.MatchHistoryRepository;
 import com.resume.repository.ResumeRepository;
+import com.resume.util.Bulkhead;
+import com.resume.util.FieldSelection;
 import com.resume.util.JobMatcher;
+import com.resume.util.Ndjson;
+import com.resume.util.PageCursor;
 import com.resume.util.ResumeParser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ResumeService {
 
+    static final Set<String> RESUME_FIELDS = Set.of(
+            "id", "originalName", "filename", "keywords", "skills", "experience", "education",
+            "contactInfo", "fileSize", "mimeType", "uploadedAt", "matchHistory");
+
+    // matchHistory embeds up to RECENT_MATCH_LIMIT entries per resume, so listings only include it on request
+    static final Set<String> DEFAULT_LIST_FIELDS = Set.of(
+            "id", "originalName", "filename", "keywords", "skills", "experience", "education",
+            "contactInfo", "fileSize", "mimeType", "uploadedAt");
+
+    private static final int RECENT_MATCH_LIMIT = 50;
+
+    static final Sort LISTING_ORDER = Sort.by(Sort.Direction.DESC, "uploadedAt", "id");
+
     private final ResumeRepository resumeRepository;
+    private final MatchHistoryRepository matchHistoryRepository;
     private final ResumeParser resumeParser;
     private final JobMatcher jobMatcher;
-
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final FileStorageService fileStorageService;
+    private final UploadAdmissionService uploadAdmissionService;
+    private final ResumeTextService resumeTextService;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersionService resourceVersionService;
+    private final Bulkhead uploadBulkhead;
+    private final Bulkhead matchBulkhead;
+    private final Bulkhead readBulkhead;
 
     public Map<String, Object> uploadResume(MultipartFile file) throws IOException {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("No file uploaded");
         }
 
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        String originalFilename = file.getOriginalFilename();
-        String filename = System.currentTimeMillis() + "-" +
-                new Random().nextInt(1000000000) + "-" + originalFilename;
-        Path filePath = uploadPath.resolve(filename);
+        FileStorageService.StoredFile storedFile = fileStorageService.store(file);
 
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        Optional<Resume> existing = resumeRepository.findByContentHash(storedFile.getSha256());
+        if (existing.isPresent()) {
+            fileStorageService.delete(storedFile.getFilePath());
+            return buildUploadResponse(existing.get(), true);
+        }
 
+        Bulkhead.Permit slot;
+        UploadAdmissionService.Permit permit;
+        try {
+            slot = uploadBulkhead.acquire();
+        } catch (CapacityExceededException e) {
+            fileStorageService.delete(storedFile.getFilePath());
+            throw e;
+        }
         try {
-            ResumeParser.ParseResult parseResult = resumeParser.parseFile(
-                    filePath.toString(),
+            permit = uploadAdmissionService.admit(storedFile.getSize(),
+                    resumeParser.documentCopies(file.getContentType()));
+        } catch (CapacityExceededException e) {
+            slot.close();
+            fileStorageService.delete(storedFile.getFilePath());
+            throw e;
+        }
+
+        try (slot; permit) {
+            ResumeParser.ParseResult parseResult = resumeParser.parse(
+                    storedFile.getContent(),
                     file.getContentType()
             );
 
             Resume resume = new Resume();
-            resume.setOriginalName(originalFilename);
-            resume.setFilename(filename);
-            resume.setFilePath(filePath.toString());
+            resume.setOriginalName(file.getOriginalFilename());
+            resume.setFilename(storedFile.getFilename());
+            resume.setFilePath(storedFile.getFilePath());
+            resume.setContentHash(storedFile.getSha256());
             resume.setExtractedText(parseResult.getExtractedText());
             resume.setKeywords(parseResult.getKeywords());
             resume.setSkills(parseResult.getSkills());
@@ -71,37 +112,74 @@ public class ResumeService {
             resume.setMimeType(file.getContentType());
 
             resume = resumeRepository.save(resume);
+            try {
+                resumeTextService.save(resume.getId(), parseResult.getExtractedText());
+            } catch (RuntimeException e) {
+                // The file is deleted below, so don't leave a resume behind that points at it
+                resumeRepository.deleteById(resume.getId());
+                throw e;
+            }
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Resume uploaded and parsed successfully");
+            return buildUploadResponse(resume, false);
 
-            Map<String, Object> resumeData = new HashMap<>();
-            resumeData.put("id", resume.getId());
-            resumeData.put("originalName", resume.getOriginalName());
-            resumeData.put("keywords", resume.getKeywords());
-            resumeData.put("skills", resume.getSkills());
-            resumeData.put("contactInfo", resume.getContactInfo());
-            resumeData.put("uploadedAt", resume.getUploadedAt());
+        } catch (DuplicateKeyException e) {
+            // A concurrent upload of the same bytes won the insert; reuse its document
+            fileStorageService.delete(storedFile.getFilePath());
+            return buildUploadResponse(getResumeByHash(storedFile.getSha256()), true);
+        } catch (Exception e) {
+            fileStorageService.delete(storedFile.getFilePath());
+            throw new RuntimeException("Failed to process resume: " + e.getMessage(), e);
+        }
+    }
 
-            response.put("resume", resumeData);
+    public Resume getResumeByHash(String sha256) {
+        return resumeRepository.findByContentHash(sha256.toLowerCase())
+                .orElseThrow(() -> new RuntimeException("Resume not found"));
+    }
 
-            return response;
+    private Map<String, Object> buildUploadResponse(Resume resume, boolean duplicate) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", duplicate
+                ? "Resume already uploaded"
+                : "Resume uploaded and parsed successfully");
+        response.put("duplicate", duplicate);
 
-        } catch (Exception e) {
-            Files.deleteIfExists(filePath);
-            throw new RuntimeException("Failed to process resume: " + e.getMessage(), e);
+        Map<String, Object> resumeData = new HashMap<>();
+        resumeData.put("id", resume.getId());
+        resumeData.put("originalName", resume.getOriginalName());
+        resumeData.put("keywords", resume.getKeywords());
+        resumeData.put("skills", resume.getSkills());
+        resumeData.put("contactInfo", resume.getContactInfo());
+        resumeData.put("uploadedAt", resume.getUploadedAt());
+
+        response.put("resume", resumeData);
+
+        return response;
+    }
+
+    public ResumeResponse getAllResumes(String fields, String cursor, int page, int limit, boolean exactTotal) {
+        try (Bulkhead.Permit slot = readBulkhead.acquire()) {
+            return listResumes(fields, cursor, page, limit, exactTotal);
         }
     }
 
-    public ResumeResponse getAllResumes(int page, int limit) {
-        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by(Sort.Direction.DESC, "uploadedAt"));
-        Page<Resume> resumePage = resumeRepository.findAllByOrderByUploadedAtDesc(pageable);
+    private ResumeResponse listResumes(String fields, String cursor, int page, int limit, boolean exactTotal) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, RESUME_FIELDS, DEFAULT_LIST_FIELDS);
+        Set<String> projection = new HashSet<>(selectedFields);
+        projection.add("uploadedAt");
+
+        List<Resume> results = resumeRepository.findProjected(listingQuery(cursor, page, limit), projection);
+        String nextCursor = null;
+        if (results.size() > limit) {
+            results = results.subList(0, limit);
+            Resume last = results.get(limit - 1);
+            nextCursor = PageCursor.encode(last.getUploadedAt(), last.getId());
+        }
+
+        long total = resumeRepository.countMatching(new Query(), exactTotal);
 
-        List<Resume> resumes = resumePage.getContent().stream()
-                .peek(resume -> {
-                    resume.setExtractedText(null);
-                    resume.setFilePath(null);
-                })
+        List<Map<String, Object>> resumes = results.stream()
+                .map(resume -> FieldSelection.view(objectMapper, resume, selectedFields))
                 .collect(Collectors.toList());
 
         return new ResumeResponse(
@@ -109,50 +187,117 @@ public class ResumeService {
                 new ResumeResponse.PaginationInfo(
                         page,
                         limit,
-                        resumePage.getTotalElements(),
-                        resumePage.getTotalPages()
+                        total,
+                        (int) ((total + limit - 1) / limit),
+                        nextCursor
                 )
         );
     }
 
+    static Query listingQuery(String cursor, int page, int limit) {
+        Query query = new Query().with(LISTING_ORDER).limit(limit + 1);
+        if (cursor != null) {
+            query.addCriteria(PageCursor.after("uploadedAt", cursor));
+        } else if (page > 1) {
+            query.skip((long) (page - 1) * limit);
+        }
+        return query;
+    }
+
+    public StreamingResponseBody exportResumes(String fields) {
+        Set<String> selectedFields = FieldSelection.resolve(fields, RESUME_FIELDS, DEFAULT_LIST_FIELDS);
+        Query query = new Query().with(LISTING_ORDER);
+
+        return out -> {
+            try (Stream<Resume> resumes = resumeRepository.streamProjected(query, selectedFields)) {
+                Ndjson.writeAll(objectMapper, out, resumes, resume -> FieldSelection.view(objectMapper, resume, selectedFields));
+            }
+        };
+    }
+
     public Resume getResume(String id) {
         return resumeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Resume not found"));
     }
 
+    public Path getResumeFile(Resume resume) {
+        if (resume.getFilePath() == null) {
+            throw new RuntimeException("Resume file not found");
+        }
+        return fileStorageService.resolve(resume.getFilePath());
+    }
+
+    public String getResumeText(String id) {
+        Resume resume = getResume(id);
+        String text = resumeTextService.load(resume.getId());
+        return text != null ? text : "";
+    }
+
+    public MatchHistoryResponse getMatchHistory(String id, int page, int limit) {
+        if (!resumeRepository.existsById(id)) {
+            throw new RuntimeException("Resume not found");
+        }
+        Page<MatchHistoryEntry> historyPage = matchHistoryRepository.findByResumeIdOrderByMatchedAtDesc(
+                id, PageRequest.of(page - 1, limit));
+
+        return new MatchHistoryResponse(
+                id,
+                historyPage.getContent(),
+                new MatchHistoryResponse.PaginationInfo(
+                        page,
+                        limit,
+                        historyPage.getTotalElements(),
+                        historyPage.getTotalPages()
+                )
+        );
+    }
+
     public void deleteResume(String id) throws IOException {
         Resume resume = getResume(id);
 
         try {
-            Path filePath = Paths.get(resume.getFilePath());
-            Files.deleteIfExists(filePath);
+            fileStorageService.delete(resume.getFilePath());
         } catch (IOException e) {
             // Log but don't fail if file doesn't exist
         }
 
         resumeRepository.deleteById(id);
+        resourceVersionService.evict(ResourceVersionService.resumeKey(id));
+        resumeTextService.delete(id);
+        matchHistoryRepository.deleteByResumeId(id);
     }
 
     public MatchResponse matchJobs(String resumeId, int limit) {
-        Resume resume = getResume(resumeId);
-
-        List<JobMatcher.MatchResult> matches = jobMatcher.findMatchingJobs(resumeId, limit);
+        List<JobMatcher.MatchResult> matches;
+        try (Bulkhead.Permit slot = matchBulkhead.acquire()) {
+            matches = jobMatcher.findMatchingJobs(resumeId, limit);
+        }
 
         if (!matches.isEmpty()) {
-            List<Resume.MatchHistory> matchHistory = matches.stream()
+            List<MatchHistoryEntry> entries = matches.stream()
                     .map(match -> {
+                        MatchHistoryEntry entry = new MatchHistoryEntry();
+                        entry.setResumeId(resumeId);
+                        entry.setJobId(match.getJob().getId());
+                        entry.setScore(match.getScore());
+                        entry.setMatchedKeywords(match.getMatchedKeywords());
+                        return entry;
+                    })
+                    .collect(Collectors.toList());
+            matchHistoryRepository.insert(entries);
+
+            List<Resume.MatchHistory> recentMatches = entries.stream()
+                    .map(entry -> {
                         Resume.MatchHistory history = new Resume.MatchHistory();
-                        history.setJobId(match.getJob().getId());
-                        history.setScore(match.getScore());
-                        history.setMatchedKeywords(match.getMatchedKeywords());
+                        history.setJobId(entry.getJobId());
+                        history.setScore(entry.getScore());
+                        history.setMatchedKeywords(entry.getMatchedKeywords());
+                        history.setMatchedAt(entry.getMatchedAt());
                         return history;
                     })
                     .collect(Collectors.toList());
-
-            List<Resume.MatchHistory> updatedHistory = new ArrayList<>(matchHistory);
-            updatedHistory.addAll(resume.getMatchHistory());
-            resume.setMatchHistory(updatedHistory.stream().limit(50).collect(Collectors.toList()));
-            resumeRepository.save(resume);
+            resumeRepository.pushRecentMatches(resumeId, recentMatches, RECENT_MATCH_LIMIT);
+            resourceVersionService.evict(ResourceVersionService.resumeKey(resumeId));
         }
 
         List<MatchResponse.JobMatch> jobMatches = matches.stream()
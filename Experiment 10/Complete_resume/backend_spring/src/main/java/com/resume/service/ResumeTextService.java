@@ -0,0 +1,118 @@
+package com.resume.service;
+
+import com.resume.model.ResumeText;
+import com.resume.repository.ResumeTextRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeTextService implements ApplicationRunner {
+
+    private static final int MIGRATION_BATCH_SIZE = 100;
+
+    private final ResumeTextRepository resumeTextRepository;
+    private final MongoTemplate mongoTemplate;
+
+    public void save(String resumeId, String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+        ResumeText resumeText = new ResumeText();
+        resumeText.setId(resumeId);
+        resumeText.setLength(utf8.length);
+        resumeText.setContent(deflate(utf8));
+
+        resumeTextRepository.save(resumeText);
+    }
+
+    public String load(String resumeId) {
+        return resumeTextRepository.findById(resumeId)
+                .map(this::inflate)
+                .orElse(null);
+    }
+
+    public void delete(String resumeId) {
+        resumeTextRepository.deleteById(resumeId);
+    }
+
+    // Moves text still stored inline on resume documents (written before this collection existed)
+    @Override
+    public void run(ApplicationArguments args) {
+        Query legacy = new Query(Criteria.where("extractedText").exists(true)).limit(MIGRATION_BATCH_SIZE);
+        legacy.fields().include("_id", "extractedText");
+
+        int migrated = 0;
+        List<Document> batch;
+        while (!(batch = mongoTemplate.find(legacy, Document.class, "resumes")).isEmpty()) {
+            for (Document document : batch) {
+                String id = document.getObjectId("_id").toHexString();
+                String text = document.getString("extractedText");
+                if (text != null) {
+                    save(id, text);
+                }
+                mongoTemplate.updateFirst(
+                        new Query(Criteria.where("_id").is(document.getObjectId("_id"))),
+                        new Update().unset("extractedText"),
+                        "resumes");
+                migrated++;
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("Moved extracted text of {} resumes into resume_texts", migrated);
+        }
+    }
+
+    private byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 3));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private String inflate(ResumeText resumeText) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(resumeText.getContent());
+            byte[] output = new byte[resumeText.getLength()];
+            int offset = 0;
+            while (offset < output.length && !inflater.finished()) {
+                int read = inflater.inflate(output, offset, output.length - offset);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += read;
+            }
+            return new String(output, 0, offset, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Corrupt extracted text for resume " + resumeText.getId(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
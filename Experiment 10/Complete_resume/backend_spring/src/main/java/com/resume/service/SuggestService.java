@@ -0,0 +1,247 @@
+package com.resume.service;
+
+import com.resume.event.JobChangedEvent;
+import com.resume.event.JobsExpiredEvent;
+import com.resume.event.JobsUpdatedEvent;
+import com.resume.model.Job;
+import com.resume.util.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Typeahead over skills, companies and titles of active jobs, ranked by how many jobs use each value.
+// Counts change per job event; the immutable lookup structures are republished on a short schedule.
+// Counts are reloaded from MongoDB every reload interval, so writes made on other instances show up
+// within reload-interval + publish-interval.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    public static final Set<String> FIELDS = Set.of("skill", "company", "title");
+
+    private static final Set<String> SUGGESTED_FIELDS = Set.of(
+            "title", "company", "requiredSkills", "preferredSkills");
+
+    private final MongoTemplate mongoTemplate;
+
+    // Guarded by lock, which is only held for map updates and copies, never for a load or an index build:
+    // what each job currently contributes, and the resulting counts per field.
+    // A ReentrantLock rather than a monitor, so waiting writers don't pin virtual-thread carriers.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<String, Map<String, List<String>>> contributions;
+    private Map<String, Map<String, Counter>> counts = new HashMap<>();
+    private Set<String> changedDuringLoad = new HashSet<>();
+    private boolean dirty;
+    private long loadedAt;
+
+    private volatile Map<String, PrefixIndex> indexes = Map.of();
+
+    @Value("${suggest.max-results:20}")
+    private int maxResults;
+
+    @Value("${suggest.reload-interval-ms:300000}")
+    private long reloadIntervalMs;
+
+    public List<PrefixIndex.Suggestion> suggest(String field, String prefix, int limit) {
+        if (!FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Unknown suggest field: " + field);
+        }
+        PrefixIndex index = indexes.get(field);
+        return index == null ? List.of() : index.suggest(normalize(prefix), limit);
+    }
+
+    @EventListener
+    public void onJobsUpdated(JobsUpdatedEvent event) {
+        refresh(event.getJobIds());
+    }
+
+    @EventListener
+    public void onJobsExpired(JobsExpiredEvent event) {
+        refresh(event.getJobIds());
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!Collections.disjoint(event.getChanges().keySet(), SUGGESTED_FIELDS)) {
+            refresh(List.of(event.getJobId()));
+        }
+    }
+
+    // Loads every active job on the first run and again once the reload interval has passed;
+    // in between, only republishes when counts have changed
+    @Scheduled(initialDelay = 0, fixedDelayString = "${suggest.publish-interval-ms:2000}")
+    public void publish() {
+        boolean due;
+        lock.lock();
+        try {
+            due = contributions == null || System.currentTimeMillis() - loadedAt >= reloadIntervalMs;
+        } finally {
+            lock.unlock();
+        }
+        if (due) {
+            load();
+        }
+
+        Map<String, Map<String, Map.Entry<String, Integer>>> snapshot = new HashMap<>();
+        lock.lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            counts.forEach((field, byKey) -> {
+                Map<String, Map.Entry<String, Integer>> entries = new HashMap<>(byKey.size() * 2);
+                byKey.forEach((key, counter) -> entries.put(key, Map.entry(counter.label, counter.count)));
+                snapshot.put(field, entries);
+            });
+        } finally {
+            lock.unlock();
+        }
+
+        Map<String, PrefixIndex> published = new HashMap<>();
+        snapshot.forEach((field, entries) -> published.put(field, new PrefixIndex(entries, maxResults)));
+        indexes = published;
+    }
+
+    private void load() {
+        long startedAt = System.currentTimeMillis();
+        lock.lock();
+        try {
+            if (changedDuringLoad == null) {
+                changedDuringLoad = new HashSet<>();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Map<String, Map<String, List<String>>> loaded = new HashMap<>();
+        Map<String, Map<String, Counter>> loadedCounts = new HashMap<>();
+        try (Stream<Job> jobs = mongoTemplate.stream(activeJobs(new Query()), Job.class)) {
+            jobs.forEach(job -> apply(loaded, loadedCounts, job.getId(), contributionOf(job)));
+        }
+
+        Set<String> replay;
+        lock.lock();
+        try {
+            contributions = loaded;
+            counts = loadedCounts;
+            replay = changedDuringLoad;
+            changedDuringLoad = null;
+            loadedAt = startedAt;
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+        refresh(replay);
+        log.info("Loaded typeahead suggestions from {} active jobs", loaded.size());
+    }
+
+    private void refresh(Collection<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        // Changes seen while a load is running are replayed onto the loaded counts afterwards
+        lock.lock();
+        try {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.addAll(jobIds);
+            }
+            if (contributions == null) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Map<String, Map<String, List<String>>> current = new HashMap<>();
+        mongoTemplate.find(activeJobs(new Query(Criteria.where("id").in(jobIds))), Job.class)
+                .forEach(job -> current.put(job.getId(), contributionOf(job)));
+
+        lock.lock();
+        try {
+            for (String jobId : jobIds) {
+                apply(contributions, counts, jobId, current.get(jobId));
+            }
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Replaces a job's previous contribution with the new one (null when it is no longer active)
+    private static void apply(Map<String, Map<String, List<String>>> contributions,
+                              Map<String, Map<String, Counter>> counts,
+                              String jobId, Map<String, List<String>> contribution) {
+        Map<String, List<String>> previous = contribution == null
+                ? contributions.remove(jobId)
+                : contributions.put(jobId, contribution);
+        if (previous != null) {
+            previous.forEach((field, values) -> values.forEach(value -> count(counts, field, value, -1)));
+        }
+        if (contribution != null) {
+            contribution.forEach((field, values) -> values.forEach(value -> count(counts, field, value, 1)));
+        }
+    }
+
+    private static void count(Map<String, Map<String, Counter>> counts, String field, String value, int delta) {
+        Map<String, Counter> byKey = counts.computeIfAbsent(field, f -> new HashMap<>());
+        String key = normalize(value);
+        Counter counter = byKey.computeIfAbsent(key, k -> new Counter(value.trim()));
+        counter.count += delta;
+        if (counter.count <= 0) {
+            byKey.remove(key);
+        }
+    }
+
+    private static Map<String, List<String>> contributionOf(Job job) {
+        Set<String> skills = new LinkedHashSet<>();
+        addAll(skills, job.getRequiredSkills());
+        addAll(skills, job.getPreferredSkills());
+
+        Map<String, List<String>> contribution = new HashMap<>();
+        contribution.put("skill", List.copyOf(skills));
+        contribution.put("company", present(job.getCompany()));
+        contribution.put("title", present(job.getTitle()));
+        return contribution;
+    }
+
+    private static void addAll(Set<String> target, List<String> values) {
+        if (values != null) {
+            values.stream().filter(value -> value != null && !value.isBlank()).forEach(target::add);
+        }
+    }
+
+    private static List<String> present(String value) {
+        return value == null || value.isBlank() ? List.of() : List.of(value);
+    }
+
+    private static Query activeJobs(Query query) {
+        query.addCriteria(Criteria.where("isActive").is(true));
+        query.fields().include("title", "company", "requiredSkills", "preferredSkills");
+        return query;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Counter {
+        private final String label;
+        private int count;
+
+        private Counter(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.resume.service;
+
+import com.resume.exception.CapacityExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class UploadAdmissionService {
+
+    private final Semaphore budgetKb;
+    private final int totalKb;
+    private final long perDocumentBytes;
+    private final int sizeMultiplier;
+    private final Duration admissionTimeout;
+
+    public UploadAdmissionService(
+            @Value("${parser.memory.global-budget:512MB}") DataSize globalBudget,
+            @Value("${parser.memory.per-document:64MB}") DataSize perDocument,
+            @Value("${parser.memory.size-multiplier:8}") int sizeMultiplier,
+            @Value("${parser.memory.admission-timeout:10s}") Duration admissionTimeout) {
+        this.totalKb = (int) Math.min(Integer.MAX_VALUE, globalBudget.toKilobytes());
+        this.budgetKb = new Semaphore(totalKb, true);
+        this.perDocumentBytes = perDocument.toBytes();
+        this.sizeMultiplier = sizeMultiplier;
+        this.admissionTimeout = admissionTimeout;
+    }
+
+    public Permit admit(long fileSize, int documentCopies) {
+        long estimateBytes = Math.min(fileSize * sizeMultiplier, perDocumentBytes) * documentCopies;
+        int estimateKb = (int) Math.min(totalKb, Math.max(1, estimateBytes / 1024));
+
+        boolean acquired;
+        try {
+            acquired = budgetKb.tryAcquire(estimateKb, admissionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            throw new CapacityExceededException("Too many resumes are being processed. Please retry shortly.");
+        }
+        return new Permit(estimateKb);
+    }
+
+    public long getInFlightBytes() {
+        return (long) (totalKb - budgetKb.availablePermits()) * 1024;
+    }
+
+    public class Permit implements AutoCloseable {
+        private final int kb;
+        private boolean released;
+
+        private Permit(int kb) {
+            this.kb = kb;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                budgetKb.release(kb);
+            }
+        }
+    }
+}
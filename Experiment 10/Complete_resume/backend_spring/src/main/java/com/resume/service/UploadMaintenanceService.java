@@ -0,0 +1,233 @@
+package com.resume.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadMaintenanceService {
+
+    private final MongoTemplate mongoTemplate;
+    private final FileStorageService fileStorageService;
+
+    @Value("${file.maintenance.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file.maintenance.batch-delay-ms:100}")
+    private long batchDelayMs;
+
+    @Value("${file.maintenance.orphan-min-age:1h}")
+    private Duration orphanMinAge;
+
+    // Migration links files into shards before re-pointing documents, so reclamation must not run alongside it
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean migrated;
+
+    // Moves files from the old flat upload directory into their shard, one batch of resumes at a time
+    @Scheduled(initialDelayString = "${file.maintenance.migration-delay-ms:30000}",
+            fixedDelayString = "${file.maintenance.migration-interval-ms:600000}")
+    public void migrateFlatFiles() {
+        if (migrated) {
+            return;
+        }
+        lock.lock();
+        try {
+            migrateBatches();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Deletes files under the upload directory that no resume document points at
+    @Scheduled(initialDelayString = "${file.maintenance.reclaim-delay-ms:300000}",
+            fixedDelayString = "${file.maintenance.reclaim-interval-ms:3600000}")
+    public void reclaimOrphans() {
+        Path root = fileStorageService.getUploadRoot();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        lock.lock();
+        try {
+            reclaimUnder(root);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void migrateBatches() {
+        int moved = 0;
+        ObjectId lastId = null;
+        List<Document> batch;
+        do {
+            Query query = new Query().with(Sort.by("_id")).limit(batchSize);
+            if (lastId != null) {
+                query.addCriteria(Criteria.where("_id").gt(lastId));
+            }
+            query.fields().include("_id", "filename", "filePath");
+
+            batch = mongoTemplate.find(query, Document.class, "resumes");
+            for (Document document : batch) {
+                lastId = document.getObjectId("_id");
+                if (migrate(document)) {
+                    moved++;
+                }
+            }
+            pause();
+        } while (batch.size() == batchSize);
+
+        migrated = true;
+        if (moved > 0) {
+            log.info("Moved {} resume files into sharded upload directories", moved);
+        }
+    }
+
+    private void reclaimUnder(Path root) {
+        FileTime cutoff = FileTime.from(Instant.now().minus(orphanMinAge));
+        int reclaimed = 0;
+
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+            List<Path> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    reclaimed += reclaimBatch(batch, cutoff);
+                    batch.clear();
+                    pause();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Orphan file reclamation stopped early: {}", e.getMessage());
+        }
+
+        if (reclaimed > 0) {
+            log.info("Reclaimed {} orphaned upload files", reclaimed);
+        }
+    }
+
+    private boolean migrate(Document document) {
+        String filename = document.getString("filename");
+        String filePath = document.getString("filePath");
+        if (filename == null || filePath == null) {
+            return false;
+        }
+
+        Path current = Paths.get(filePath);
+        Path target = fileStorageService.pathFor(filename);
+        if (current.normalize().equals(target.normalize()) || !Files.exists(current)) {
+            return false;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            // A hard link keeps the old path readable until the document points at the new one
+            try {
+                Files.createLink(target, current);
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                Files.copy(current, target);
+            }
+
+            boolean updated = mongoTemplate.updateFirst(
+                    new Query(Criteria.where("_id").is(document.getObjectId("_id")).and("filePath").is(filePath)),
+                    new Update().set("filePath", target.toString()),
+                    "resumes").getModifiedCount() > 0;
+
+            // Deleted or re-pointed meanwhile: leave the original for orphan reclamation
+            Files.deleteIfExists(updated ? current : target);
+            return updated;
+        } catch (IOException e) {
+            log.warn("Could not move {} into its shard: {}", filePath, e.getMessage());
+            return false;
+        }
+    }
+
+    private int reclaimBatch(List<Path> batch, FileTime cutoff) throws IOException {
+        List<String> filenames = batch.stream().map(path -> path.getFileName().toString()).toList();
+
+        Map<String, List<Path>> referenced = new HashMap<>();
+        for (Document document : mongoTemplate.find(referencesQuery(filenames), Document.class, "resumes")) {
+            String filePath = document.getString("filePath");
+            if (filePath != null) {
+                referenced.computeIfAbsent(document.getString("filename"), x -> new ArrayList<>())
+                        .add(Paths.get(filePath).toAbsolutePath().normalize());
+            }
+        }
+
+        int reclaimed = 0;
+        for (Path path : batch) {
+            List<Path> owners = referenced.getOrDefault(path.getFileName().toString(), List.of());
+            if (owners.contains(path.toAbsolutePath().normalize())) {
+                continue;
+            }
+            try {
+                // Recent files may belong to an upload whose document has not been saved yet
+                if (Files.getLastModifiedTime(path).compareTo(cutoff) <= 0 && !isLinkedElsewhere(path)
+                        && Files.deleteIfExists(path)) {
+                    reclaimed++;
+                }
+            } catch (NoSuchFileException e) {
+                // Removed by a concurrent delete
+            }
+        }
+        return reclaimed;
+    }
+
+    // Another instance may be mid-migration: the shard path is already linked but the document still
+    // names the old one. Such a file keeps its old modification time, so the age check doesn't protect it.
+    private static boolean isLinkedElsewhere(Path path) throws IOException {
+        try {
+            return ((Number) Files.getAttribute(path, "unix:nlink")).intValue() > 1;
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            // No link counts on this filesystem, so migration copied the file instead and the copy is new
+            return false;
+        }
+    }
+
+    static Query referencesQuery(Collection<String> filenames) {
+        Query query = new Query(Criteria.where("filename").in(filenames));
+        query.fields().include("filename", "filePath");
+        return query;
+    }
+
+    private void pause() {
+        if (batchDelayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Upload maintenance interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.resume.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// A virtual thread that blocks inside synchronized code or a native frame holds on to its carrier.
+// PDFBox and POI synchronize internally, so JFR's pinning events are watched in-process: each one is
+// counted as virtual.pinned{library}, and the first occurrence at each call site is logged with its stack.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "virtual-threads.pinning-monitor.enabled"},
+        havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    @Value("${virtual-threads.pinning-monitor.threshold:20ms}")
+    private Duration threshold;
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Watching for virtual thread pinning longer than {}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String library = library(frames);
+
+        Timer.builder("virtual.pinned")
+                .tag("library", library)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String site = library + " " + firstFrame(frames, "org.apache.") + " <- " + firstFrame(frames, "com.resume.");
+        if (reportedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream().limit(LOGGED_FRAMES).forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+            log.warn("Virtual thread pinned for {} ms in {}{}", event.getDuration().toMillis(), library, stack);
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static String library(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.apache.pdfbox.") || type.startsWith("org.apache.fontbox.")) {
+                return "pdfbox";
+            }
+            if (type.startsWith("org.apache.poi.") || type.startsWith("org.apache.xmlbeans.")) {
+                return "poi";
+            }
+        }
+        return "other";
+    }
+
+    private static String firstFrame(List<RecordedFrame> frames, String packagePrefix) {
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(packagePrefix))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("?");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
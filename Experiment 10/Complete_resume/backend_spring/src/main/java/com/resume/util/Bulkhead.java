@@ -0,0 +1,103 @@
+package com.resume.util;
+
+import com.resume.exception.CapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Caps how many requests of one workload run at once. Callers beyond the limit wait up to maxWait
+// for a permit; once maxWaiting are already queued, further callers are turned away immediately.
+// Semaphore parks virtual threads without pinning their carrier.
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter rejected;
+    private final Timer waitTime;
+
+    public Bulkhead(String name, int maxConcurrent, int maxWaiting, Duration maxWait, MeterRegistry registry) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        Gauge.builder("bulkhead.active", this, Bulkhead::getActive).tag("workload", name).register(registry);
+        Gauge.builder("bulkhead.waiting", waiting, AtomicInteger::get).tag("workload", name).register(registry);
+        Gauge.builder("bulkhead.limit", this, b -> b.maxConcurrent).tag("workload", name).register(registry);
+        this.rejected = Counter.builder("bulkhead.rejected").tag("workload", name).register(registry);
+        this.waitTime = Timer.builder("bulkhead.wait").tag("workload", name).register(registry);
+    }
+
+    public Permit acquire() {
+        // The untimed tryAcquire() barges past queued callers; a zero timeout honours the fair ordering
+        boolean immediate;
+        try {
+            immediate = permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reject();
+        }
+        if (immediate) {
+            waitTime.record(0, TimeUnit.NANOSECONDS);
+            return new Permit();
+        }
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return reject();
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return acquired ? new Permit() : reject();
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    private Permit reject() {
+        rejected.increment();
+        throw new CapacityExceededException("Too many " + name + " requests are in progress. Please retry shortly.");
+    }
+
+    public class Permit implements AutoCloseable {
+        private boolean released;
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.resume.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+public final class FieldSelection {
+
+    private static final TypeReference<LinkedHashMap<String, Object>> VIEW_TYPE = new TypeReference<>() {};
+
+    private FieldSelection() {
+    }
+
+    public static Set<String> resolve(String fields, Set<String> allowed, Set<String> defaults) {
+        if (fields == null || fields.isBlank()) {
+            return defaults;
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    // Unselected properties are dropped so entity defaults never appear for fields that were not loaded
+    public static Map<String, Object> view(ObjectMapper objectMapper, Object entity, Set<String> fields) {
+        Map<String, Object> view = objectMapper.convertValue(entity, VIEW_TYPE);
+        view.keySet().retainAll(fields);
+        return view;
+    }
+}
@@ -0,0 +1,475 @@
+package com.resume.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.IntPredicate;
+
+// Positional inverted index with BM25 scoring over a fixed set of boosted fields.
+// Not thread-safe: callers serialise writes against reads. Documents are append-only;
+// removal only marks them dead, so callers rebuild once deadRatio() grows.
+public final class InvertedIndex<D> {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "that", "the", "to", "was", "we", "with", "you", "our", "will");
+
+    private final float[] boosts;
+    private final TreeMap<String, Postings[]> terms = new TreeMap<>();
+    private final BitSet live = new BitSet();
+    private final List<D> payloads = new ArrayList<>();
+    private final long[] liveFieldLengths;
+    private int[][] fieldLengths;
+    private int liveCount;
+
+    // Corpus-sized accumulators are kept for reuse by at most one search per core; with virtual threads a
+    // ThreadLocal would allocate fresh arrays on every request. Searches beyond that allocate and discard.
+    private final BlockingQueue<Scratch> scratchPool =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    public InvertedIndex(float... boosts) {
+        this.boosts = boosts.clone();
+        this.liveFieldLengths = new long[boosts.length];
+        this.fieldLengths = new int[boosts.length][1024];
+    }
+
+    public int add(D payload, String... fields) {
+        int doc = payloads.size();
+        payloads.add(payload);
+        if (doc == fieldLengths[0].length) {
+            for (int f = 0; f < fieldLengths.length; f++) {
+                fieldLengths[f] = Arrays.copyOf(fieldLengths[f], doc * 2);
+            }
+        }
+
+        for (int f = 0; f < boosts.length; f++) {
+            Map<String, IntList> positions = new HashMap<>();
+            int position = 0;
+            for (String token : tokenize(f < fields.length ? fields[f] : null)) {
+                if (!STOPWORDS.contains(token)) {
+                    positions.computeIfAbsent(token, x -> new IntList()).add(position);
+                }
+                position++;
+            }
+            for (Map.Entry<String, IntList> entry : positions.entrySet()) {
+                Postings[] byField = terms.computeIfAbsent(entry.getKey(), x -> new Postings[boosts.length]);
+                if (byField[f] == null) {
+                    byField[f] = new Postings();
+                }
+                byField[f].add(doc, entry.getValue());
+            }
+            fieldLengths[f][doc] = position;
+            liveFieldLengths[f] += position;
+        }
+
+        live.set(doc);
+        liveCount++;
+        return doc;
+    }
+
+    public void remove(int doc) {
+        if (doc < 0 || !live.get(doc)) {
+            return;
+        }
+        live.clear(doc);
+        liveCount--;
+        for (int f = 0; f < boosts.length; f++) {
+            liveFieldLengths[f] -= fieldLengths[f][doc];
+        }
+    }
+
+    public D payload(int doc) {
+        return payloads.get(doc);
+    }
+
+    public int liveCount() {
+        return liveCount;
+    }
+
+    public double deadRatio() {
+        return payloads.isEmpty() ? 0 : 1.0 - (double) liveCount / payloads.size();
+    }
+
+    // Query syntax follows $text: bare words are optional and ranked, "quoted phrases" are required,
+    // and a trailing * matches any term with that prefix.
+    public TopHits search(String query, IntPredicate filter, int topN) {
+        Scratch s = scratchPool.poll();
+        if (s == null) {
+            s = new Scratch();
+        }
+        try {
+            s.reset(payloads.size());
+            return rank(ParsedQuery.parse(query), filter, topN, s);
+        } finally {
+            scratchPool.offer(s);
+        }
+    }
+
+    private TopHits rank(ParsedQuery parsed, IntPredicate filter, int topN, Scratch s) {
+        BitSet required = null;
+        for (List<String> phrase : parsed.phrases) {
+            BitSet matches = matchPhrase(phrase);
+            if (required == null) {
+                required = matches;
+            } else {
+                required.and(matches);
+            }
+        }
+
+        Set<String> scoredTerms = new HashSet<>(parsed.terms);
+        parsed.phrases.forEach(phrase -> phrase.stream().filter(t -> !t.isEmpty()).forEach(scoredTerms::add));
+        for (String prefix : parsed.prefixes) {
+            scoredTerms.addAll(expand(prefix));
+        }
+
+        for (String term : scoredTerms) {
+            Postings[] byField = terms.get(term);
+            if (byField == null) {
+                continue;
+            }
+            for (int f = 0; f < boosts.length; f++) {
+                Postings postings = byField[f];
+                if (postings != null) {
+                    accumulate(s, postings, f, required);
+                }
+            }
+        }
+
+        int total = 0;
+        // Left to grow with the candidates; topN is a cap, not a size hint
+        PriorityQueue<Integer> top = new PriorityQueue<>(
+                Comparator.<Integer>comparingDouble(doc -> s.scores[doc]).thenComparingInt(doc -> doc));
+        for (int i = 0; i < s.touchedCount; i++) {
+            int doc = s.touched[i];
+            if (!live.get(doc) || !filter.test(doc)) {
+                continue;
+            }
+            total++;
+            if (top.size() < topN) {
+                top.add(doc);
+            } else if (topN > 0 && s.scores[doc] > s.scores[top.peek()]) {
+                // Most candidates lose to the current n-th best, so check before paying for the heap
+                top.poll();
+                top.add(doc);
+            }
+        }
+
+        int[] docs = new int[top.size()];
+        float[] scores = new float[top.size()];
+        for (int i = docs.length - 1; i >= 0; i--) {
+            int doc = top.poll();
+            docs[i] = doc;
+            scores[i] = s.scores[doc];
+        }
+        return new TopHits(total, docs, scores);
+    }
+
+    private void accumulate(Scratch s, Postings postings, int field, BitSet required) {
+        double avgLength = liveCount == 0 ? 1 : Math.max(1.0, (double) liveFieldLengths[field] / liveCount);
+        int df = postings.size;
+        double idf = Math.log(1 + (Math.max(liveCount, df) - df + 0.5) / (df + 0.5));
+        float weight = (float) (boosts[field] * idf);
+
+        for (int i = 0; i < postings.size; i++) {
+            int doc = postings.docs[i];
+            if (!live.get(doc) || (required != null && !required.get(doc))) {
+                continue;
+            }
+            int tf = postings.freqs[i];
+            double norm = K1 * (1 - B + B * fieldLengths[field][doc] / avgLength);
+            s.add(doc, (float) (weight * tf * (K1 + 1) / (tf + norm)));
+        }
+    }
+
+    // Phrase words must appear at consecutive positions within one field
+    private BitSet matchPhrase(List<String> words) {
+        BitSet matches = new BitSet();
+        List<Integer> offsets = new ArrayList<>();
+        List<String> anchored = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            if (!words.get(i).isEmpty()) {
+                anchored.add(words.get(i));
+                offsets.add(i);
+            }
+        }
+        if (anchored.isEmpty()) {
+            return matches;
+        }
+
+        for (int f = 0; f < boosts.length; f++) {
+            Postings[] lists = new Postings[anchored.size()];
+            boolean complete = true;
+            for (int w = 0; w < anchored.size(); w++) {
+                Postings[] byField = terms.get(anchored.get(w));
+                lists[w] = byField == null ? null : byField[f];
+                complete &= lists[w] != null;
+            }
+            if (!complete) {
+                continue;
+            }
+
+            int[] cursors = new int[lists.length];
+            outer:
+            for (int i = 0; i < lists[0].size; i++) {
+                int doc = lists[0].docs[i];
+                for (int w = 1; w < lists.length; w++) {
+                    int found = Arrays.binarySearch(lists[w].docs, cursors[w], lists[w].size, doc);
+                    if (found < 0) {
+                        cursors[w] = -found - 1;
+                        continue outer;
+                    }
+                    cursors[w] = found;
+                }
+                if (phraseAt(lists, cursors, i, offsets)) {
+                    matches.set(doc);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean phraseAt(Postings[] lists, int[] cursors, int first, List<Integer> offsets) {
+        int[] starts = lists[0].positions(first);
+        for (int start : starts) {
+            int base = start - offsets.get(0);
+            boolean all = true;
+            for (int w = 1; w < lists.length && all; w++) {
+                all = Arrays.binarySearch(lists[w].positions(cursors[w]), base + offsets.get(w)) >= 0;
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<String> expand(String prefix) {
+        if (prefix.length() < MIN_PREFIX_LENGTH) {
+            return List.of();
+        }
+        NavigableMap<String, Postings[]> range = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        List<Map.Entry<String, Postings[]>> candidates = new ArrayList<>(range.entrySet());
+        if (candidates.size() > MAX_PREFIX_EXPANSIONS) {
+            candidates.sort(Comparator.comparingInt((Map.Entry<String, Postings[]> e) -> documentFrequency(e.getValue())).reversed());
+            candidates = candidates.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        return candidates.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private static int documentFrequency(Postings[] byField) {
+        int df = 0;
+        for (Postings postings : byField) {
+            if (postings != null) {
+                df = Math.max(df, postings.size);
+            }
+        }
+        return df;
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            // "c++" and "c#" stay single tokens
+            boolean tokenChar = Character.isLetterOrDigit(c) || (start >= 0 && (c == '+' || c == '#'));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public static final class TopHits {
+        private final int total;
+        private final int[] docs;
+        private final float[] scores;
+
+        private TopHits(int total, int[] docs, float[] scores) {
+            this.total = total;
+            this.docs = docs;
+            this.scores = scores;
+        }
+
+        public int total() {
+            return total;
+        }
+
+        public int[] docs() {
+            return docs;
+        }
+
+        public float[] scores() {
+            return scores;
+        }
+    }
+
+    private static final class ParsedQuery {
+        private final List<String> terms = new ArrayList<>();
+        private final List<String> prefixes = new ArrayList<>();
+        // Stopwords inside a phrase are kept as "" so the remaining words keep their offsets
+        private final List<List<String>> phrases = new ArrayList<>();
+
+        private static ParsedQuery parse(String query) {
+            ParsedQuery parsed = new ParsedQuery();
+            String rest = query;
+            int open;
+            while ((open = rest.indexOf('"')) >= 0) {
+                int close = rest.indexOf('"', open + 1);
+                if (close < 0) {
+                    break;
+                }
+                parsed.addLoose(rest.substring(0, open));
+                List<String> phrase = tokenize(rest.substring(open + 1, close)).stream()
+                        .map(token -> STOPWORDS.contains(token) ? "" : token)
+                        .toList();
+                if (phrase.stream().anyMatch(token -> !token.isEmpty())) {
+                    parsed.phrases.add(phrase);
+                }
+                rest = rest.substring(close + 1);
+            }
+            parsed.addLoose(rest.replace('"', ' '));
+            return parsed;
+        }
+
+        private void addLoose(String text) {
+            for (String word : text.trim().split("\\s+")) {
+                boolean prefix = word.endsWith("*");
+                List<String> tokens = tokenize(word);
+                for (int i = 0; i < tokens.size(); i++) {
+                    String token = tokens.get(i);
+                    if (prefix && i == tokens.size() - 1) {
+                        prefixes.add(token);
+                    } else if (!STOPWORDS.contains(token)) {
+                        terms.add(token);
+                    }
+                }
+            }
+        }
+    }
+
+    // Doc ids only grow, so each list stays sorted by doc; positions are delta-varint encoded
+    private static final class Postings {
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int[] positionOffsets = new int[2];
+        private byte[] positions = new byte[8];
+        private int size;
+        private int positionBytes;
+
+        private void add(int doc, IntList docPositions) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+                positionOffsets = Arrays.copyOf(positionOffsets, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = docPositions.size;
+            positionOffsets[size] = positionBytes;
+            size++;
+
+            int previous = 0;
+            for (int i = 0; i < docPositions.size; i++) {
+                int value = docPositions.values[i] - previous;
+                previous = docPositions.values[i];
+                if (positionBytes + 5 > positions.length) {
+                    positions = Arrays.copyOf(positions, Math.max(positions.length * 2, positionBytes + 5));
+                }
+                while ((value & ~0x7F) != 0) {
+                    positions[positionBytes++] = (byte) ((value & 0x7F) | 0x80);
+                    value >>>= 7;
+                }
+                positions[positionBytes++] = (byte) value;
+            }
+        }
+
+        private int[] positions(int index) {
+            int[] result = new int[freqs[index]];
+            int offset = positionOffsets[index];
+            int previous = 0;
+            for (int i = 0; i < result.length; i++) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = positions[offset++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                previous += value;
+                result[i] = previous;
+            }
+            return result;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    // Score accumulator for one search at a time, returned to the pool afterwards
+    private static final class Scratch {
+        private float[] scores = new float[0];
+        private boolean[] seen = new boolean[0];
+        private int[] touched = new int[64];
+        private int touchedCount;
+
+        private void reset(int docCount) {
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (doc < scores.length) {
+                    scores[doc] = 0;
+                    seen[doc] = false;
+                }
+            }
+            touchedCount = 0;
+            if (scores.length < docCount) {
+                scores = Arrays.copyOf(scores, docCount);
+                seen = Arrays.copyOf(seen, docCount);
+            }
+        }
+
+        private void add(int doc, float score) {
+            if (!seen[doc]) {
+                seen[doc] = true;
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = doc;
+            }
+            scores[doc] += score;
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.resume.model.Job;
 import com.resume.model.Resume;
 import com.resume.repository.JobRepository;
 import com.resume.repository.ResumeRepository;
+import com.resume.service.ResumeTextService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -19,6 +22,9 @@ public class JobMatcher {
 
     private final ResumeRepository resumeRepository;
     private final JobRepository jobRepository;
+    private final ResumeTextService resumeTextService;
+
+    private static final int CANDIDATE_LIMIT = 50;
 
     private static final Map<String, Double> WEIGHTS = Map.of(
             "keywords", 0.4,
@@ -31,7 +37,10 @@ public class JobMatcher {
         Resume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new RuntimeException("Resume not found"));
 
-        List<Job> activeJobs = jobRepository.findTop50ByIsActiveOrderByPostedAtDesc(true);
+        String resumeText = resumeTextService.load(resumeId);
+        resume.setExtractedText(resumeText != null ? resumeText : "");
+
+        List<Job> activeJobs = jobRepository.findActiveAt(LocalDateTime.now(), PageRequest.of(0, CANDIDATE_LIMIT));
 
         List<MatchResult> matches = activeJobs.stream()
                 .map(job -> {
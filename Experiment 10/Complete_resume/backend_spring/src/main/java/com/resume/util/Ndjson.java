@@ -0,0 +1,37 @@
+package com.resume.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public final class Ndjson {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private Ndjson() {
+    }
+
+    public static void writeLine(ObjectMapper objectMapper, OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    // Writes and releases one element at a time, flushing regularly so the client sees progress
+    public static <T> long writeAll(ObjectMapper objectMapper, OutputStream out,
+                                    Stream<T> items, Function<T, ?> view) throws IOException {
+        long written = 0;
+        Iterator<T> iterator = items.iterator();
+        while (iterator.hasNext()) {
+            writeLine(objectMapper, out, view.apply(iterator.next()));
+            if (++written % FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+        return written;
+    }
+}
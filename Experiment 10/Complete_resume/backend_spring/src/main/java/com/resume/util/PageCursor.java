@@ -0,0 +1,48 @@
+package com.resume.util;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque continuation tokens for listings ordered by (<timestamp> desc, _id desc)
+public final class PageCursor {
+
+    private PageCursor() {
+    }
+
+    public static String encode(LocalDateTime at, String id) {
+        String key = at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Matches the documents that sort after the cursor, so each page is a seek on the (field, _id) index
+    public static Criteria after(String field, String token) {
+        String key;
+        try {
+            key = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        int separator = key.indexOf('|');
+        if (separator < 0 || !ObjectId.isValid(key.substring(separator + 1))) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        LocalDateTime at;
+        try {
+            at = LocalDateTime.parse(key.substring(0, separator));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String id = key.substring(separator + 1);
+
+        return new Criteria().orOperator(
+                Criteria.where(field).lt(at),
+                Criteria.where(field).is(at).and("id").lt(id));
+    }
+}
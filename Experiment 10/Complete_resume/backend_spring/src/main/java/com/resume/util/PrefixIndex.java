@@ -0,0 +1,112 @@
+package com.resume.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.*;
+
+// Immutable prefix lookup over a sorted key array. A prefix maps to one contiguous range of keys,
+// found by two binary searches. Short prefixes have huge ranges, so their top entries are precomputed.
+public final class PrefixIndex {
+
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+
+    private final String[] keys;
+    private final String[] labels;
+    private final int[] counts;
+    private final int maxResults;
+    private final Map<String, int[]> topByShortPrefix = new HashMap<>();
+
+    // Each entry is a normalized key, its display label and its frequency
+    public PrefixIndex(Map<String, Map.Entry<String, Integer>> entries, int maxResults) {
+        List<String> sorted = new ArrayList<>(entries.keySet());
+        Collections.sort(sorted);
+
+        keys = sorted.toArray(new String[0]);
+        labels = new String[keys.length];
+        counts = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Map.Entry<String, Integer> entry = entries.get(keys[i]);
+            labels[i] = entry.getKey();
+            counts[i] = entry.getValue();
+        }
+        this.maxResults = maxResults;
+
+        Set<String> shortPrefixes = new HashSet<>();
+        for (String key : keys) {
+            for (int length = 1; length <= Math.min(PRECOMPUTED_PREFIX_LENGTH, key.length()); length++) {
+                shortPrefixes.add(key.substring(0, length));
+            }
+        }
+        shortPrefixes.add("");
+        for (String prefix : shortPrefixes) {
+            topByShortPrefix.put(prefix, scan(prefix, maxResults));
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    // Labels of the most frequent keys starting with the (already normalized) prefix
+    public List<Suggestion> suggest(String prefix, int limit) {
+        int wanted = Math.min(limit, maxResults);
+        int[] top = prefix.length() <= PRECOMPUTED_PREFIX_LENGTH
+                ? topByShortPrefix.getOrDefault(prefix, new int[0])
+                : scan(prefix, wanted);
+
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(wanted, top.length));
+        for (int i = 0; i < top.length && i < wanted; i++) {
+            suggestions.add(new Suggestion(labels[top[i]], counts[top[i]]));
+        }
+        return suggestions;
+    }
+
+    // Indexes of the n most frequent keys in the prefix range, most frequent first
+    private int[] scan(String prefix, int n) {
+        int from = lowerBound(prefix);
+        int to = prefix.isEmpty() ? keys.length : lowerBound(prefix + Character.MAX_VALUE);
+        if (to - from <= 0 || n <= 0) {
+            return new int[0];
+        }
+
+        // Min-heap on frequency, ties broken towards the alphabetically first key
+        PriorityQueue<Integer> heap = new PriorityQueue<>(n + 1,
+                Comparator.<Integer>comparingInt(i -> counts[i]).thenComparing(Comparator.<Integer>reverseOrder()));
+        for (int i = from; i < to; i++) {
+            if (heap.size() < n) {
+                heap.add(i);
+            } else if (counts[i] > counts[heap.peek()]) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        int[] top = new int[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll();
+        }
+        return top;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Suggestion {
+        private String value;
+        private int count;
+    }
+}
@@ -2,158 +2,148 @@ package com.resume.util;
 
 import com.resume.model.Resume;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 @Component
+@RequiredArgsConstructor
 public class ResumeParser {
 
-    private static final List<String> COMMON_KEYWORDS = Arrays.asList(
-            "javascript", "python", "java", "c++", "c#", "php", "ruby", "go", "rust", "swift",
-            "kotlin", "scala", "typescript", "html", "css", "sql", "r", "matlab",
-            "react", "angular", "vue", "node.js", "express", "django", "flask", "spring",
-            "laravel", "rails", "jquery", "bootstrap", "tailwind",
-            "mysql", "postgresql", "mongodb", "redis", "sqlite", "oracle", "cassandra",
-            "aws", "azure", "gcp", "docker", "kubernetes", "jenkins", "git", "linux",
-            "terraform", "ansible", "puppet", "chef",
-            "agile", "scrum", "kanban", "ci/cd", "tdd", "bdd", "microservices", "api",
-            "rest", "graphql", "machine learning", "ai", "data science", "analytics",
-            "project management", "leadership", "team lead", "mentoring"
-    );
-
-    private static final List<String> TECHNICAL_SKILLS = Arrays.asList(
-            "programming", "development", "software engineering", "web development",
-            "mobile development", "database design", "system administration",
-            "network administration", "cybersecurity", "data analysis", "testing",
-            "debugging", "problem solving", "algorithm design", "architecture"
-    );
-
-    public ParseResult parseFile(String filePath, String mimeType) throws IOException {
+    private final ExecutorService pdfExtractionExecutor;
+    private final SkillTaxonomy skillTaxonomy;
+
+    @Value("${parser.memory.per-document:64MB}")
+    private DataSize pdfMemoryBudget;
+
+    @Value("${parser.pdf.max-pages:40}")
+    private int pdfMaxPages;
+
+    @Value("${parser.pdf.parallel.enabled:true}")
+    private boolean pdfParallelEnabled;
+
+    @Value("${parser.pdf.parallel.min-pages:8}")
+    private int pdfParallelMinPages;
+
+    @Value("${parser.pdf.parallel.pages-per-task:4}")
+    private int pdfPagesPerTask;
+
+    @Value("${parser.pdf.parallel.threads:4}")
+    private int pdfParallelThreads;
+
+    public ParseResult parse(ByteBuffer content, String mimeType) throws IOException {
         String extractedText;
 
         switch (mimeType) {
             case "application/pdf":
-                extractedText = parsePDF(filePath);
+                extractedText = parsePDF(content.duplicate());
                 break;
             case "application/vnd.openxmlformats-officedocument.wordprocessingml.document":
             case "application/msword":
-                extractedText = parseWord(filePath);
+                extractedText = parseWord(content.duplicate());
                 break;
             case "text/plain":
-                extractedText = parseText(filePath);
+                extractedText = parseText(content.duplicate());
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported file type: " + mimeType);
         }
 
-        return analyzeText(extractedText);
+        return skillTaxonomy.analyzer().analyze(extractedText);
     }
 
-    private String parsePDF(String filePath) throws IOException {
-        try (PDDocument document = org.apache.pdfbox.Loader.loadPDF(new java.io.File(filePath))) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+    // Parallel extraction opens one document per page range, so a PDF can hold this many loaded copies
+    // at once: one per pool thread, plus the caller when a full queue makes it run a range itself
+    public int documentCopies(String mimeType) {
+        if (!"application/pdf".equals(mimeType) || !pdfParallelEnabled) {
+            return 1;
         }
+        int ranges = (pdfMaxPages + pdfPagesPerTask - 1) / pdfPagesPerTask;
+        return Math.max(1, Math.min(ranges, pdfParallelThreads + 1));
     }
 
-    private String parseWord(String filePath) throws IOException {
-        try (FileInputStream fis = new FileInputStream(filePath);
-             XWPFDocument document = new XWPFDocument(fis);
-             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
-            return extractor.getText();
+    private String parsePDF(ByteBuffer content) throws IOException {
+        int pageCount;
+        try (PDDocument document = loadPDF(content)) {
+            pageCount = Math.min(document.getNumberOfPages(), pdfMaxPages);
+            if (!pdfParallelEnabled || pageCount < pdfParallelMinPages) {
+                return extractPages(document, 1, pageCount);
+            }
         }
-    }
-
-    private String parseText(String filePath) throws IOException {
-        return new String(Files.readAllBytes(Paths.get(filePath)));
-    }
-
-    private ParseResult analyzeText(String text) {
-        String lowercaseText = text.toLowerCase();
-
-        List<String> keywords = extractKeywords(lowercaseText);
-        List<String> skills = extractSkills(lowercaseText);
-        Resume.ContactInfo contactInfo = extractContactInfo(text);
-        String experience = extractExperience(text);
-        String education = extractEducation(text);
 
-        ParseResult result = new ParseResult();
-        result.setExtractedText(text);
-        result.setKeywords(new ArrayList<>(new HashSet<>(keywords)));
-        result.setSkills(new ArrayList<>(new HashSet<>(skills)));
-        result.setContactInfo(contactInfo);
-        result.setExperience(experience);
-        result.setEducation(education);
-
-        return result;
-    }
-
-    private List<String> extractKeywords(String text) {
-        return COMMON_KEYWORDS.stream()
-                .filter(text::contains)
-                .collect(Collectors.toList());
-    }
-
-    private List<String> extractSkills(String text) {
-        return TECHNICAL_SKILLS.stream()
-                .filter(text::contains)
-                .collect(Collectors.toList());
-    }
-
-    private Resume.ContactInfo extractContactInfo(String text) {
-        Resume.ContactInfo contactInfo = new Resume.ContactInfo();
-
-        Pattern emailPattern = Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b");
-        Matcher emailMatcher = emailPattern.matcher(text);
-        if (emailMatcher.find()) {
-            contactInfo.setEmail(emailMatcher.group());
+        // PDDocument is not thread-safe, so every worker opens its own document over the shared buffer;
+        // admission has already reserved memory for each of those copies (see documentCopies)
+        List<Future<String>> chunks = new ArrayList<>();
+        for (int start = 1; start <= pageCount; start += pdfPagesPerTask) {
+            int startPage = start;
+            int endPage = Math.min(start + pdfPagesPerTask - 1, pageCount);
+            chunks.add(pdfExtractionExecutor.submit(() -> {
+                try (PDDocument document = loadPDF(content)) {
+                    return extractPages(document, startPage, endPage);
+                }
+            }));
         }
 
-        Pattern phonePattern = Pattern.compile("(\\+?\\d{1,3}[-\\.\\s]?)?\\(?(\\d{3})\\)?[-\\.\\s]?(\\d{3})[-\\.\\s]?(\\d{4})");
-        Matcher phoneMatcher = phonePattern.matcher(text);
-        if (phoneMatcher.find()) {
-            contactInfo.setPhone(phoneMatcher.group());
+        StringBuilder text = new StringBuilder();
+        try {
+            for (Future<String> chunk : chunks) {
+                text.append(chunk.get());
+            }
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF extraction interrupted", e);
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("PDF extraction failed", e.getCause());
         }
+        return text.toString();
+    }
 
-        Pattern namePattern = Pattern.compile("^([A-Z][a-z]+ [A-Z][a-z]+)", Pattern.MULTILINE);
-        Matcher nameMatcher = namePattern.matcher(text);
-        if (nameMatcher.find()) {
-            contactInfo.setName(nameMatcher.group());
-        }
+    private PDDocument loadPDF(ByteBuffer content) throws IOException {
+        // Streams beyond the per-document budget spill to a scratch file instead of the heap
+        return Loader.loadPDF(new RandomAccessReadBuffer(content.duplicate()),
+                MemoryUsageSetting.setupMixed(pdfMemoryBudget.toBytes()).streamCache);
+    }
 
-        return contactInfo;
+    private String extractPages(PDDocument document, int startPage, int endPage) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        return stripper.getText(document);
     }
 
-    private String extractExperience(String text) {
-        Pattern experiencePattern = Pattern.compile("experience[\\s\\S]{0,500}", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = experiencePattern.matcher(text);
-        if (matcher.find()) {
-            String section = matcher.group();
-            return section.length() > 500 ? section.substring(0, 500) : section;
+    private String parseWord(ByteBuffer content) throws IOException {
+        try (InputStream in = DefaultDataBufferFactory.sharedInstance.wrap(content).asInputStream();
+             XWPFDocument document = new XWPFDocument(in);
+             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+            return extractor.getText();
         }
-        return null;
     }
 
-    private String extractEducation(String text) {
-        Pattern educationPattern = Pattern.compile("education[\\s\\S]{0,500}", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = educationPattern.matcher(text);
-        if (matcher.find()) {
-            String section = matcher.group();
-            return section.length() > 500 ? section.substring(0, 500) : section;
-        }
-        return null;
+    private String parseText(ByteBuffer content) {
+        return Charset.defaultCharset().decode(content).toString();
     }
 
     @Data
@@ -0,0 +1,284 @@
+package com.resume.util;
+
+import com.resume.model.Resume;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ResumeTextAnalyzer {
+
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b");
+
+    private static final Pattern PHONE_PATTERN =
+            Pattern.compile("(\\+?\\d{1,3}[-\\.\\s]?)?\\(?(\\d{3})\\)?[-\\.\\s]?(\\d{3})[-\\.\\s]?(\\d{4})");
+
+    private static final String EXPERIENCE_HEADING = "experience";
+    private static final String EDUCATION_HEADING = "education";
+    private static final int SECTION_LENGTH = 500;
+    private static final int MIN_PHONE_DIGITS = 10;
+
+    private final List<String> termNames = new ArrayList<>();
+    private final List<Boolean> termIsSkill = new ArrayList<>();
+    private final int[][] patternTerms;
+    private final int experienceId;
+    private final int educationId;
+    private final int maxPatternLength;
+    private final AhoCorasick automaton;
+
+    public ResumeTextAnalyzer(List<SkillTaxonomy.Term> terms) {
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        List<List<Integer>> termsByPattern = new ArrayList<>();
+
+        for (SkillTaxonomy.Term term : terms) {
+            int slot = termNames.size();
+            termNames.add(term.getName());
+            termIsSkill.add(SkillTaxonomy.SKILL.equals(term.getCategory()));
+
+            List<String> names = new ArrayList<>(term.getAliases());
+            names.add(0, term.getName());
+            for (String name : names) {
+                int id = ids.computeIfAbsent(name, x -> ids.size());
+                if (id == termsByPattern.size()) {
+                    termsByPattern.add(new ArrayList<>());
+                }
+                termsByPattern.get(id).add(slot);
+            }
+        }
+
+        this.experienceId = ids.computeIfAbsent(EXPERIENCE_HEADING, x -> ids.size());
+        this.educationId = ids.computeIfAbsent(EDUCATION_HEADING, x -> ids.size());
+        while (termsByPattern.size() < ids.size()) {
+            termsByPattern.add(new ArrayList<>());
+        }
+
+        this.patternTerms = termsByPattern.stream()
+                .map(slots -> slots.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+        this.maxPatternLength = ids.keySet().stream().mapToInt(String::length).max().orElse(1);
+        this.automaton = AhoCorasick.build(new ArrayList<>(ids.keySet()));
+    }
+
+    public ResumeParser.ParseResult analyze(String text) {
+        Scan scan = new Scan(termNames.size(), maxPatternLength + 1);
+        int length = text.length();
+        int state = 0;
+        int phoneRunStart = -1;
+        int phoneRunDigits = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (scan.name == null && isLineStart(text, i)) {
+                scan.name = matchName(text, i);
+            }
+
+            if (c == '@') {
+                scan.atSigns.add(i);
+            }
+
+            if (isPhoneChar(c)) {
+                if (phoneRunStart < 0) {
+                    phoneRunStart = i;
+                    phoneRunDigits = 0;
+                }
+                if (c >= '0' && c <= '9') {
+                    phoneRunDigits++;
+                }
+            } else if (phoneRunStart >= 0) {
+                if (phoneRunDigits >= MIN_PHONE_DIGITS) {
+                    scan.phoneRuns.add(new int[]{phoneRunStart, i});
+                }
+                phoneRunStart = -1;
+            }
+
+            // Same folding as String.toLowerCase(): dotted capital I lowers to "i" plus a combining dot
+            if (c == '\u0130') {
+                state = feed(scan, text, state, 'i', i);
+                state = feed(scan, text, state, '\u0307', i);
+            } else {
+                state = feed(scan, text, state, Character.toLowerCase(c), i);
+            }
+        }
+        if (phoneRunStart >= 0 && phoneRunDigits >= MIN_PHONE_DIGITS) {
+            scan.phoneRuns.add(new int[]{phoneRunStart, length});
+        }
+
+        Resume.ContactInfo contactInfo = new Resume.ContactInfo();
+        contactInfo.setEmail(findEmail(text, scan.atSigns));
+        contactInfo.setPhone(findPhone(text, scan.phoneRuns));
+        contactInfo.setName(scan.name);
+
+        ResumeParser.ParseResult result = new ResumeParser.ParseResult();
+        result.setExtractedText(text);
+        result.setKeywords(new ArrayList<>(new HashSet<>(collectHits(scan.hits, false))));
+        result.setSkills(new ArrayList<>(new HashSet<>(collectHits(scan.hits, true))));
+        result.setContactInfo(contactInfo);
+        result.setExperience(section(text, scan.experienceAt));
+        result.setEducation(section(text, scan.educationAt));
+
+        return result;
+    }
+
+    private int feed(Scan scan, String text, int state, char c, int index) {
+        scan.fedIndexes[scan.fed++ % scan.fedIndexes.length] = index;
+        int next = automaton.next(state, c);
+        for (int id : automaton.outputs(next)) {
+            int length = automaton.patternLength(id);
+            int start = scan.fedIndexes[(scan.fed - length) % scan.fedIndexes.length];
+
+            if (patternTerms[id].length > 0 && isWordBounded(text, start, index)) {
+                for (int slot : patternTerms[id]) {
+                    scan.hits[slot] = true;
+                }
+            }
+            if (id == experienceId && scan.experienceAt < 0) {
+                scan.experienceAt = start;
+            } else if (id == educationId && scan.educationAt < 0) {
+                scan.educationAt = start;
+            }
+        }
+        return next;
+    }
+
+    private List<String> collectHits(boolean[] hits, boolean skills) {
+        List<String> found = new ArrayList<>();
+        for (int slot = 0; slot < termNames.size(); slot++) {
+            if (hits[slot] && termIsSkill.get(slot) == skills) {
+                found.add(termNames.get(slot));
+            }
+        }
+        return found;
+    }
+
+    // Terms such as "r" or "go" only count when they are not part of a longer word
+    private static boolean isWordBounded(String text, int start, int end) {
+        boolean startBounded = start == 0
+                || !isWordChar(text.charAt(start)) || !isWordChar(text.charAt(start - 1));
+        boolean endBounded = end + 1 >= text.length()
+                || !isWordChar(text.charAt(end)) || !isWordChar(text.charAt(end + 1));
+        return startBounded && endBounded;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    // Every email match lies within the address-character runs around one '@', so the
+    // regex only ever runs over those regions, in order, until one of them matches.
+    private String findEmail(String text, List<Integer> atSigns) {
+        for (int at : atSigns) {
+            int start = at;
+            while (start > 0 && isLocalPartChar(text.charAt(start - 1))) {
+                start--;
+            }
+            int end = at + 1;
+            while (end < text.length() && isDomainChar(text.charAt(end))) {
+                end++;
+            }
+            Matcher matcher = EMAIL_PATTERN.matcher(text)
+                    .region(start, end)
+                    .useTransparentBounds(true)
+                    .useAnchoringBounds(false);
+            if (matcher.find()) {
+                return matcher.group();
+            }
+        }
+        return null;
+    }
+
+    private String findPhone(String text, List<int[]> phoneRuns) {
+        for (int[] run : phoneRuns) {
+            Matcher matcher = PHONE_PATTERN.matcher(text).region(run[0], run[1]);
+            if (matcher.find()) {
+                return matcher.group();
+            }
+        }
+        return null;
+    }
+
+    // Mirrors "^([A-Z][a-z]+ [A-Z][a-z]+)" in MULTILINE mode at a single line start
+    private String matchName(String text, int start) {
+        int length = text.length();
+        int i = start;
+        if (!isAsciiUpper(text.charAt(i++))) {
+            return null;
+        }
+        int firstEnd = i;
+        while (firstEnd < length && isAsciiLower(text.charAt(firstEnd))) {
+            firstEnd++;
+        }
+        if (firstEnd == i || firstEnd + 1 >= length || text.charAt(firstEnd) != ' '
+                || !isAsciiUpper(text.charAt(firstEnd + 1))) {
+            return null;
+        }
+        int secondStart = firstEnd + 2;
+        int secondEnd = secondStart;
+        while (secondEnd < length && isAsciiLower(text.charAt(secondEnd))) {
+            secondEnd++;
+        }
+        return secondEnd > secondStart ? text.substring(start, secondEnd) : null;
+    }
+
+    private String section(String text, int start) {
+        return start < 0 ? null : text.substring(start, Math.min(text.length(), start + SECTION_LENGTH));
+    }
+
+    private static boolean isLineStart(String text, int i) {
+        if (i == 0) {
+            return true;
+        }
+        char previous = text.charAt(i - 1);
+        if (previous != '\n' && previous != '\r' && (previous | 1) != '\u2029' && previous != '\u0085') {
+            return false;
+        }
+        return !(previous == '\r' && text.charAt(i) == '\n');
+    }
+
+    private static boolean isPhoneChar(char c) {
+        return (c >= '0' && c <= '9') || c == '+' || c == '(' || c == ')' || c == '-' || c == '.'
+                || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiAlphanumeric(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiAlphanumeric(c) || c == '.' || c == '-' || c == '|';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiUpper(c) || isAsciiLower(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static class Scan {
+        private final boolean[] hits;
+        private final List<Integer> atSigns = new ArrayList<>();
+        private final List<int[]> phoneRuns = new ArrayList<>();
+        private String name;
+        private int experienceAt = -1;
+        private int educationAt = -1;
+
+        private final int[] fedIndexes;
+        private int fed;
+
+        private Scan(int termCount, int window) {
+            this.hits = new boolean[termCount];
+            this.fedIndexes = new int[window];
+        }
+    }
+}
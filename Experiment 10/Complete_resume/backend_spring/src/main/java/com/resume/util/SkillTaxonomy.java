@@ -0,0 +1,135 @@
+package com.resume.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillTaxonomy {
+
+    public static final String KEYWORD = "keyword";
+    public static final String SKILL = "skill";
+
+    private final ResourceLoader resourceLoader;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    @Value("${taxonomy.location:classpath:taxonomy/skills.txt}")
+    private String location;
+
+    @PostConstruct
+    public void init() throws IOException {
+        current.set(load());
+    }
+
+    @Scheduled(fixedDelayString = "${taxonomy.reload-interval-ms:60000}",
+            initialDelayString = "${taxonomy.reload-interval-ms:60000}")
+    public void reloadIfModified() {
+        try {
+            long lastModified = resourceLoader.getResource(location).lastModified();
+            if (lastModified != current.get().getLastModified()) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.warn("Could not check skill taxonomy {}: {}", location, e.getMessage());
+        }
+    }
+
+    public void reload() throws IOException {
+        Snapshot snapshot = load();
+        current.set(snapshot);
+        log.info("Loaded skill taxonomy from {} ({} terms)", location, snapshot.getTerms().size());
+    }
+
+    public ResumeTextAnalyzer analyzer() {
+        return current.get().getAnalyzer();
+    }
+
+    public String normalize(String term) {
+        String normalized = term.toLowerCase().trim();
+        return current.get().getCanonicalNames().getOrDefault(normalized, normalized);
+    }
+
+    public List<String> normalize(List<String> terms) {
+        if (terms == null) {
+            return null;
+        }
+        return terms.stream()
+                .map(this::normalize)
+                .collect(Collectors.toList());
+    }
+
+    private Snapshot load() throws IOException {
+        Resource resource = resourceLoader.getResource(location);
+        long lastModified = resource.lastModified();
+        List<Term> terms = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf(':');
+                String category = separator > 0 ? line.substring(0, separator).trim().toLowerCase(Locale.ROOT) : "";
+                if (!category.equals(KEYWORD) && !category.equals(SKILL)) {
+                    throw new IOException("Invalid taxonomy entry at " + location + ":" + lineNumber);
+                }
+                List<String> names = Arrays.stream(line.substring(separator + 1).split(","))
+                        .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                        .filter(name -> !name.isEmpty())
+                        .collect(Collectors.toList());
+                if (names.isEmpty()) {
+                    throw new IOException("Invalid taxonomy entry at " + location + ":" + lineNumber);
+                }
+                terms.add(new Term(category, names.get(0), names.subList(1, names.size())));
+            }
+        }
+
+        Map<String, String> canonicalNames = new HashMap<>();
+        for (Term term : terms) {
+            canonicalNames.putIfAbsent(term.getName(), term.getName());
+            term.getAliases().forEach(alias -> canonicalNames.putIfAbsent(alias, term.getName()));
+        }
+
+        return new Snapshot(lastModified, terms, canonicalNames, new ResumeTextAnalyzer(terms));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Term {
+        private String category;
+        private String name;
+        private List<String> aliases;
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class Snapshot {
+        private long lastModified;
+        private List<Term> terms;
+        private Map<String, String> canonicalNames;
+        private ResumeTextAnalyzer analyzer;
+    }
+}
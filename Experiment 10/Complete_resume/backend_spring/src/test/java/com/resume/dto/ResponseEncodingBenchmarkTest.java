@@ -0,0 +1,159 @@
+package com.resume.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Serialized size and time of a full job page and a match result as JSON, Smile and CBOR, with and
+// without gzip at the JDK default level (what Tomcat's compression uses). Excluded from the default
+// build; run with: mvn -P benchmark test
+@Tag("benchmark")
+class ResponseEncodingBenchmarkTest {
+
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    private static final Random random = new Random(7);
+    private static String[] vocabulary;
+
+    private static JobResponse jobResponse;
+    private static MatchResponse matchResponse;
+
+    @BeforeAll
+    static void generate() {
+        vocabulary = new String[3000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(8);
+            for (int k = 0; k < length; k++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            vocabulary[i] = word.toString();
+        }
+
+        List<Map<String, Object>> jobs = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Map<String, Object> job = new LinkedHashMap<>();
+            job.put("id", String.format("%024x", i));
+            job.put("title", words(5));
+            job.put("company", words(2));
+            job.put("description", words(220));
+            job.put("location", words(2));
+            job.put("salaryRange", Map.of("min", 50000 + random.nextInt(50000),
+                    "max", 100000 + random.nextInt(80000), "currency", "USD"));
+            job.put("jobType", "full-time");
+            job.put("requiredSkills", List.of(words(1), words(1), words(1), words(1)));
+            job.put("experienceLevel", "mid");
+            job.put("isActive", true);
+            job.put("postedAt", LocalDateTime.now());
+            job.put("expiresAt", LocalDateTime.now().plusDays(30));
+            jobs.add(job);
+        }
+        jobResponse = new JobResponse(jobs, new JobResponse.PaginationInfo(1, 2000, 50000, 25, "abc"), Map.of());
+
+        List<MatchResponse.JobMatch> matches = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            MatchResponse.JobInfo info = new MatchResponse.JobInfo(String.format("%024x", i), words(5), words(2),
+                    words(2), "full-time", "mid", LocalDateTime.now());
+            matches.add(new MatchResponse.JobMatch(info, random.nextDouble() * 100,
+                    List.of(words(1), words(1), words(1), words(1), words(1), words(1)),
+                    new MatchResponse.ScoreBreakdown(random.nextDouble(), random.nextDouble(),
+                            random.nextDouble(), random.nextDouble())));
+        }
+        matchResponse = new MatchResponse("resume1", matches);
+    }
+
+    @Test
+    void jobResponse() throws IOException {
+        measure("JobResponse, 2000 jobs", jobResponse);
+    }
+
+    @Test
+    void matchResponse() throws IOException {
+        measure("MatchResponse, 50 matches", matchResponse);
+    }
+
+    private static void measure(String name, Object value) throws IOException {
+        System.out.println(name);
+        int json = run("json", mapper(null), value);
+        int smile = run("smile", mapper(new SmileFactory()), value);
+        int cbor = run("cbor", mapper(new CBORFactory()), value);
+
+        assertThat(smile).isLessThan(json);
+        assertThat(cbor).isLessThan(json);
+    }
+
+    // Built the way WebConfig builds the converters' mappers, with Boot's date setting
+    private static ObjectMapper mapper(JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (factory != null) {
+            builder.factory(factory);
+        }
+        return builder.build();
+    }
+
+    private static int run(String encoding, ObjectMapper mapper, Object value) throws IOException {
+        byte[] bytes = null;
+        for (int i = 0; i < WARMUP; i++) {
+            bytes = mapper.writeValueAsBytes(value);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = mapper.writeValueAsBytes(value);
+        }
+        double serializeMs = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+        byte[] gzipped = null;
+        for (int i = 0; i < WARMUP / 3; i++) {
+            gzipped = gzip(bytes);
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            gzipped = gzip(bytes);
+        }
+        double gzipMs = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+        System.out.printf("  %-6s %,10d B  ser %7.2f ms  gzip %,10d B  +%.2f ms%n",
+                encoding, bytes.length, serializeMs, gzipped.length, gzipMs);
+        return bytes.length;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    // Zipf-like draw from the vocabulary, so the text compresses roughly like prose
+    private static String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(vocabulary[(int) Math.min(vocabulary.length - 1, Math.pow(vocabulary.length, random.nextDouble()))]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package com.resume.service;
+
+import com.mongodb.client.MongoDatabase;
+import com.resume.model.Job;
+import com.resume.model.MatchHistoryEntry;
+import com.resume.model.Resume;
+import com.resume.repository.CountCache;
+import com.resume.repository.JobRepository;
+import com.resume.repository.MatchHistoryRepository;
+import com.resume.repository.ResumeRepository;
+import com.resume.util.PageCursor;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the hot queries through the builders and repositories the services use, with the profiler on,
+// and fails on any plan that scans the collection or sorts in memory. Runs under the integration-test
+// profile and errors rather than skipping when Docker is unavailable.
+@DataMongoTest
+@Import(CountCache.class)
+@Testcontainers
+class QueryPlanIT {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private MatchHistoryRepository matchHistoryRepository;
+
+    @BeforeAll
+    static void seed(@Autowired MongoTemplate mongoTemplate) {
+        if (mongoTemplate.count(new Query(), Job.class) > 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String[] types = {"full-time", "part-time", "contract"};
+        String[] levels = {"entry", "mid", "senior"};
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            Job job = new Job();
+            job.setExternalId("ext-" + i);
+            job.setTitle("Engineer " + i);
+            job.setCompany("Company " + (i % 40));
+            job.setCompanyKey("company " + (i % 40));
+            job.setLocation("City " + (i % 25));
+            job.setLocationKey("city " + (i % 25));
+            job.setJobType(types[i % types.length]);
+            job.setExperienceLevel(levels[i % levels.length]);
+            job.setIsActive(i % 10 != 0);
+            job.setPostedAt(now.minusMinutes(i));
+            job.setExpiresAt(i % 7 == 0 ? now.minusDays(1) : now.plusDays(30));
+            jobs.add(job);
+        }
+        mongoTemplate.insertAll(jobs);
+
+        List<Resume> resumes = new ArrayList<>();
+        List<MatchHistoryEntry> history = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Resume resume = new Resume();
+            resume.setFilename("resume-" + i + ".pdf");
+            resume.setFilePath("uploads/resume-" + i + ".pdf");
+            resume.setContentHash(String.format("%064x", i));
+            resume.setUploadedAt(now.minusMinutes(i));
+            resumes.add(resume);
+
+            MatchHistoryEntry entry = new MatchHistoryEntry();
+            entry.setResumeId("resume-" + (i % 30));
+            entry.setJobId("job-" + i);
+            entry.setMatchedAt(now.minusMinutes(i));
+            history.add(entry);
+        }
+        mongoTemplate.insertAll(resumes);
+        mongoTemplate.insertAll(history);
+    }
+
+    @Test
+    void jobListingsUseTheListingIndexes() {
+        assertIndexed(false, () -> list(Map.of()));
+        assertIndexed(false, () -> list(Map.of("jobType", "full-time")));
+        assertIndexed(false, () -> list(Map.of("experienceLevel", "mid")));
+        assertIndexed(false, () -> list(Map.of("jobType", "full-time", "experienceLevel", "mid")));
+    }
+
+    // A prefix is a range on the key, so the planner may sort the (small) matching set instead
+    @Test
+    void prefixFiltersUseTheKeyIndexes() {
+        assertIndexed(true, () -> list(Map.of("location", "City 1")));
+        assertIndexed(true, () -> list(Map.of("company", "company 3")));
+    }
+
+    @Test
+    void keysetPagesUseTheListingIndex() {
+        Job last = jobRepository.findProjected(JobService.listingQuery(JobService.buildQuery(Map.of()), null, 1, 20),
+                List.of("postedAt")).get(19);
+        String cursor = PageCursor.encode(last.getPostedAt(), last.getId());
+
+        assertIndexed(false, () -> jobRepository.findProjected(
+                JobService.listingQuery(JobService.buildQuery(Map.of()), cursor, 1, 20), JobService.DEFAULT_LIST_FIELDS));
+    }
+
+    @Test
+    void matchCandidatesUseTheActiveIndex() {
+        assertIndexed(false, () -> jobRepository.findActiveAt(LocalDateTime.now(), PageRequest.of(0, 50)));
+    }
+
+    @Test
+    void expirySweepAndImportLookupAreIndexed() {
+        assertIndexed(false, () -> mongoTemplate.find(JobExpiryService.expiredQuery(LocalDateTime.now(), 500), Job.class));
+        assertIndexed(false, () -> mongoTemplate.find(JobImportService.existingQuery(List.of("ext-1", "ext-2")), Job.class));
+    }
+
+    @Test
+    void resumeQueriesAreIndexed() {
+        assertIndexed(false, () -> resumeRepository.findProjected(
+                ResumeService.listingQuery(null, 1, 100), ResumeService.DEFAULT_LIST_FIELDS));
+        assertIndexed(false, () -> resumeRepository.findByContentHash(String.format("%064x", 7)));
+        assertIndexed(false, () -> mongoTemplate.find(
+                UploadMaintenanceService.referencesQuery(List.of("resume-1.pdf", "resume-2.pdf")), Document.class, "resumes"));
+        assertIndexed(false, () -> matchHistoryRepository.findByResumeIdOrderByMatchedAtDesc("resume-3", PageRequest.of(0, 20)));
+    }
+
+    private void list(Map<String, String> filters) {
+        jobRepository.findProjected(JobService.listingQuery(JobService.buildQuery(filters), null, 1, 20),
+                JobService.DEFAULT_LIST_FIELDS);
+    }
+
+    private void assertIndexed(boolean sortAllowed, Runnable action) {
+        MongoDatabase db = mongoTemplate.getDb();
+        db.runCommand(new Document("profile", 0));
+        db.getCollection("system.profile").drop();
+        db.runCommand(new Document("profile", 2));
+        try {
+            action.run();
+        } finally {
+            db.runCommand(new Document("profile", 0));
+        }
+
+        List<Document> operations = db.getCollection("system.profile")
+                .find(new Document("planSummary", new Document("$exists", true)))
+                .into(new ArrayList<>());
+        assertThat(operations).as("profiled operations").isNotEmpty();
+        for (Document operation : operations) {
+            String plan = operation.getString("planSummary");
+            assertThat(plan).as("plan of %s", operation.get("command")).doesNotContain("COLLSCAN");
+            if (!sortAllowed) {
+                assertThat(operation.getBoolean("hasSortStage", false))
+                        .as("in-memory sort in %s", operation.get("command")).isFalse();
+            }
+        }
+    }
+}
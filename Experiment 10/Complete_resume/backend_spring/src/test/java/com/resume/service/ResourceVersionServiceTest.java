@@ -0,0 +1,74 @@
+package com.resume.service;
+
+import com.resume.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionServiceTest {
+
+    private final ResourceVersionService service = new ResourceVersionService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofSeconds(60));
+    }
+
+    @Test
+    void remembersTheTagOfAnUnchangedEntity() {
+        ResourceVersionService.Tag tag = service.recordJob(job(1), service.stamp());
+
+        assertThat(service.notModified(ResourceVersionService.jobKey("j1"), ifNoneMatch(tag.getEtag()))).isEqualTo(tag);
+    }
+
+    @Test
+    void dropsATagReadBeforeAConcurrentWrite() {
+        long readStamp = service.stamp();
+        // The write lands and evicts between the read and record()
+        service.evict(ResourceVersionService.jobKey("j1"));
+        ResourceVersionService.Tag stale = service.recordJob(job(1), readStamp);
+
+        assertThat(service.notModified(ResourceVersionService.jobKey("j1"), ifNoneMatch(stale.getEtag()))).isNull();
+
+        ResourceVersionService.Tag fresh = service.recordJob(job(2), service.stamp());
+        assertThat(service.notModified(ResourceVersionService.jobKey("j1"), ifNoneMatch(fresh.getEtag()))).isEqualTo(fresh);
+        assertThat(service.notModified(ResourceVersionService.jobKey("j1"), ifNoneMatch(stale.getEtag()))).isNull();
+    }
+
+    @Test
+    void evictionOfOtherKeysDoesNotDropATag() {
+        long readStamp = service.stamp();
+        service.evict(ResourceVersionService.jobKey("other"));
+        ResourceVersionService.Tag tag = service.recordJob(job(1), readStamp);
+
+        assertThat(service.notModified(ResourceVersionService.jobKey("j1"), ifNoneMatch(tag.getEtag()))).isEqualTo(tag);
+    }
+
+    @Test
+    void matchesComparesAgainstTheGivenTag() {
+        ResourceVersionService.Tag tag = service.recordJob(job(3), service.stamp());
+
+        assertThat(service.matches(tag, ifNoneMatch("W/" + tag.getEtag()))).isTrue();
+        assertThat(service.matches(tag, ifNoneMatch("\"job-j1-2\""))).isFalse();
+    }
+
+    private static Job job(long version) {
+        Job job = new Job();
+        job.setId("j1");
+        job.setVersion(version);
+        job.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        return job;
+    }
+
+    private static HttpHeaders ifNoneMatch(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+        return headers;
+    }
+}
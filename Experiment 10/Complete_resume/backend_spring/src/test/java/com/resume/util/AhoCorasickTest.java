@@ -0,0 +1,112 @@
+package com.resume.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    @Test
+    void reportsOverlappingAndNestedMatches() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("he", "she", "his", "hers"));
+
+        assertThat(scan(automaton, "ushers")).containsExactlyInAnyOrder("she@3", "he@3", "hers@5");
+    }
+
+    @Test
+    void matchesAtTheStartAndEndOfTheText() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("a", "c", "abc"));
+
+        assertThat(scan(automaton, "abc")).containsExactlyInAnyOrder("a@0", "c@2", "abc@2");
+    }
+
+    @Test
+    void reportsEverySuffixPatternOfAMatch() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("b", "ab", "cab"));
+
+        assertThat(scan(automaton, "cab")).containsExactlyInAnyOrder("b@2", "ab@2", "cab@2");
+    }
+
+    @Test
+    void reportsSelfOverlappingRepeats() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("aa"));
+
+        assertThat(scan(automaton, "aaaa")).containsExactly("aa@1", "aa@2", "aa@3");
+    }
+
+    @Test
+    void unknownCharactersResetToTheRoot() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("ab"));
+
+        assertThat(scan(automaton, "a-b")).isEmpty();
+        assertThat(scan(automaton, "a-ab")).containsExactly("ab@3");
+    }
+
+    @Test
+    void keepsIdsForEmptyAndDuplicatePatterns() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("", "go", "go"));
+
+        assertThat(automaton.patternCount()).isEqualTo(3);
+        assertThat(automaton.patternLength(0)).isZero();
+        List<Integer> ids = new ArrayList<>();
+        int state = 0;
+        for (char c : "go".toCharArray()) {
+            state = automaton.next(state, c);
+            for (int id : automaton.outputs(state)) {
+                ids.add(id);
+            }
+        }
+        assertThat(ids).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void agreesWithNaiveSearch() {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            List<String> patterns = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(8); i++) {
+                patterns.add(randomString(random, 1 + random.nextInt(4)));
+            }
+            String text = randomString(random, random.nextInt(40));
+
+            assertThat(scan(AhoCorasick.build(patterns), text))
+                    .as("patterns %s in %s", patterns, text)
+                    .containsExactlyInAnyOrderElementsOf(naive(patterns, text));
+        }
+    }
+
+    private static List<String> scan(AhoCorasick automaton, String text) {
+        List<String> matches = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = automaton.next(state, text.charAt(i));
+            for (int id : automaton.outputs(state)) {
+                int length = automaton.patternLength(id);
+                matches.add(text.substring(i - length + 1, i + 1) + "@" + i);
+            }
+        }
+        return matches;
+    }
+
+    private static List<String> naive(List<String> patterns, String text) {
+        List<String> matches = new ArrayList<>();
+        for (String pattern : patterns) {
+            for (int at = text.indexOf(pattern); at >= 0; at = text.indexOf(pattern, at + 1)) {
+                matches.add(pattern + "@" + (at + pattern.length() - 1));
+            }
+        }
+        return matches;
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append("abc".charAt(random.nextInt(3)));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.resume.util;
+
+import com.resume.exception.CapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void admitsUpToTheLimitAndRejectsWhenNoOneMayWait() {
+        Bulkhead bulkhead = new Bulkhead("upload", 2, 0, Duration.ofSeconds(5), registry);
+
+        Bulkhead.Permit first = bulkhead.acquire();
+        Bulkhead.Permit second = bulkhead.acquire();
+        assertThat(bulkhead.getActive()).isEqualTo(2);
+
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(CapacityExceededException.class)
+                .hasMessageContaining("upload");
+        assertThat(registry.get("bulkhead.rejected").tag("workload", "upload").counter().count()).isEqualTo(1);
+
+        first.close();
+        second.close();
+        assertThat(bulkhead.getActive()).isZero();
+    }
+
+    @Test
+    void queuedCallerGetsTheReleasedPermit() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("match", 1, 1, Duration.ofSeconds(10), registry);
+        Bulkhead.Permit held = bulkhead.acquire();
+
+        CompletableFuture<Bulkhead.Permit> queued = CompletableFuture.supplyAsync(bulkhead::acquire);
+        awaitWaiting(bulkhead, 1);
+
+        held.close();
+        try (Bulkhead.Permit permit = queued.get(5, TimeUnit.SECONDS)) {
+            assertThat(permit).isNotNull();
+            assertThat(bulkhead.getActive()).isEqualTo(1);
+            assertThat(bulkhead.getWaiting()).isZero();
+        }
+    }
+
+    @Test
+    void rejectsOnceTheQueueIsFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("match", 1, 1, Duration.ofSeconds(10), registry);
+        Bulkhead.Permit held = bulkhead.acquire();
+        CompletableFuture<Bulkhead.Permit> queued = CompletableFuture.supplyAsync(bulkhead::acquire);
+        awaitWaiting(bulkhead, 1);
+
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(CapacityExceededException.class);
+        assertThat(bulkhead.getWaiting()).isEqualTo(1);
+
+        held.close();
+        queued.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void rejectsAfterWaitingTooLong() {
+        Bulkhead bulkhead = new Bulkhead("export", 1, 5, Duration.ofMillis(50), registry);
+        Bulkhead.Permit held = bulkhead.acquire();
+
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(CapacityExceededException.class);
+        assertThat(bulkhead.getWaiting()).isZero();
+        held.close();
+    }
+
+    @Test
+    void closingAPermitTwiceReleasesItOnce() {
+        Bulkhead bulkhead = new Bulkhead("upload", 1, 0, Duration.ofSeconds(1), registry);
+        Bulkhead.Permit permit = bulkhead.acquire();
+
+        permit.close();
+        permit.close();
+
+        Bulkhead.Permit next = bulkhead.acquire();
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(CapacityExceededException.class);
+        next.close();
+    }
+
+    private static void awaitWaiting(Bulkhead bulkhead, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getWaiting() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(bulkhead.getWaiting()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,49 @@
+package com.resume.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.model.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldSelectionTest {
+
+    private static final Set<String> ALLOWED = Set.of("id", "title", "company", "location");
+    private static final Set<String> DEFAULTS = Set.of("id", "title");
+
+    @Test
+    void usesDefaultsWhenNothingIsSelected() {
+        assertThat(FieldSelection.resolve(null, ALLOWED, DEFAULTS)).isSameAs(DEFAULTS);
+        assertThat(FieldSelection.resolve("  ", ALLOWED, DEFAULTS)).isSameAs(DEFAULTS);
+    }
+
+    @Test
+    void alwaysIncludesIdAndIgnoresBlankEntries() {
+        assertThat(FieldSelection.resolve(" company, ,location,company", ALLOWED, DEFAULTS))
+                .containsExactly("id", "company", "location");
+    }
+
+    @Test
+    void rejectsUnknownFields() {
+        assertThatThrownBy(() -> FieldSelection.resolve("title,salary", ALLOWED, DEFAULTS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown field: salary");
+    }
+
+    @Test
+    void viewKeepsOnlySelectedProperties() {
+        Job job = new Job();
+        job.setId("65f000000000000000000001");
+        job.setTitle("Engineer");
+        job.setCompany("Acme");
+
+        Map<String, Object> view = FieldSelection.view(new ObjectMapper().findAndRegisterModules(), job,
+                Set.of("id", "title"));
+
+        assertThat(view).containsOnlyKeys("id", "title").containsEntry("title", "Engineer");
+    }
+}
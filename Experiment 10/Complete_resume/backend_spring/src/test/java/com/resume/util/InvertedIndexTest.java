@@ -0,0 +1,151 @@
+package com.resume.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static final float TITLE = 3.0f;
+    private static final float DESCRIPTION = 1.0f;
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        index.add("description", "Backend Engineer", "We use kotlin every day");
+        index.add("title", "Kotlin Engineer", "Server work");
+        index.add("none", "Designer", "Figma");
+
+        assertThat(ids(index, index.search("kotlin", doc -> true, 10))).containsExactly("title", "description");
+    }
+
+    @Test
+    void favoursRareTermsAndShorterFields() {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        index.add("common", "Engineer", "java");
+        index.add("rare", "Engineer", "spark");
+        index.add("long", "Engineer", "java plus a great many other words that dilute the match");
+
+        assertThat(ids(index, index.search("java spark", doc -> true, 10)))
+                .containsExactly("rare", "common", "long");
+    }
+
+    @Test
+    void removedDocumentsAreNotReturnedOrCounted() {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        int first = index.add("first", "Python Developer", "");
+        index.add("second", "Python Engineer", "");
+
+        index.remove(first);
+        index.remove(first);
+
+        InvertedIndex.TopHits hits = index.search("python", doc -> true, 10);
+        assertThat(ids(index, hits)).containsExactly("second");
+        assertThat(hits.total()).isEqualTo(1);
+        assertThat(index.liveCount()).isEqualTo(1);
+        assertThat(index.deadRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void capsResultsButCountsEveryMatch() {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        for (int i = 0; i < 5; i++) {
+            index.add("job" + i, "React Developer", "");
+        }
+
+        InvertedIndex.TopHits hits = index.search("react", doc -> true, 2);
+        assertThat(hits.docs()).hasSize(2);
+        assertThat(hits.total()).isEqualTo(5);
+        assertThat(index.search("react", doc -> true, 0).docs()).isEmpty();
+    }
+
+    @Test
+    void filterExcludesDocumentsFromResultsAndTotal() {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        index.add("keep", "Go Developer", "");
+        int dropped = index.add("drop", "Go Developer", "");
+
+        InvertedIndex.TopHits hits = index.search("go", doc -> doc != dropped, 10);
+        assertThat(ids(index, hits)).containsExactly("keep");
+        assertThat(hits.total()).isEqualTo(1);
+    }
+
+    @Test
+    void phrasesAreRequiredAndMustBeConsecutive() {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        index.add("phrase", "Engineer", "machine learning platform");
+        index.add("apart", "Engineer", "learning about machine tools");
+        index.add("stopword", "Engineer", "head of the machine learning team");
+
+        assertThat(ids(index, index.search("\"machine learning\"", doc -> true, 10)))
+                .containsExactlyInAnyOrder("phrase", "stopword");
+        // A stopword in the phrase stands for any word, but keeps its position
+        assertThat(ids(index, index.search("\"head of a machine\"", doc -> true, 10))).containsExactly("stopword");
+        assertThat(index.search("\"head of machine\"", doc -> true, 10).total()).isZero();
+    }
+
+    @Test
+    void trailingStarMatchesPrefixes() {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        index.add("kubernetes", "Engineer", "kubernetes operators");
+        index.add("kubeflow", "Engineer", "kubeflow pipelines");
+        index.add("other", "Engineer", "terraform");
+
+        assertThat(ids(index, index.search("kube*", doc -> true, 10)))
+                .containsExactlyInAnyOrder("kubernetes", "kubeflow");
+        assertThat(index.search("k*", doc -> true, 10).total()).isZero();
+    }
+
+    @Test
+    void keepsSymbolTermsAndDropsStopwords() {
+        assertThat(InvertedIndex.tokenize("C++ and C# for the Web")).containsExactly("c++", "and", "c#", "for", "the", "web");
+
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        index.add("cpp", "C++ Developer", "");
+        index.add("c", "C Developer", "");
+        assertThat(ids(index, index.search("c++", doc -> true, 10))).containsExactly("cpp");
+        assertThat(index.search("the", doc -> true, 10).total()).isZero();
+    }
+
+    @Test
+    void searchesDoNotLeakScoresIntoEachOther() throws Exception {
+        InvertedIndex<String> index = new InvertedIndex<>(TITLE, DESCRIPTION);
+        for (int i = 0; i < 200; i++) {
+            index.add("job" + i, i % 2 == 0 ? "Java Developer" : "Rust Developer", "role " + i);
+        }
+        InvertedIndex.TopHits java = index.search("java", doc -> true, 5);
+        InvertedIndex.TopHits rust = index.search("rust", doc -> true, 5);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<InvertedIndex.TopHits>> results = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String query = i % 2 == 0 ? "java" : "rust";
+                results.add(pool.submit(() -> index.search(query, doc -> true, 5)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                InvertedIndex.TopHits expected = i % 2 == 0 ? java : rust;
+                InvertedIndex.TopHits actual = results.get(i).get();
+                assertThat(actual.docs()).containsExactly(expected.docs());
+                assertThat(actual.scores()).containsExactly(expected.scores());
+                assertThat(actual.total()).isEqualTo(100);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<String> ids(InvertedIndex<String> index, InvertedIndex.TopHits hits) {
+        List<String> ids = new ArrayList<>();
+        for (int doc : hits.docs()) {
+            ids.add(index.payload(doc));
+        }
+        return ids;
+    }
+}
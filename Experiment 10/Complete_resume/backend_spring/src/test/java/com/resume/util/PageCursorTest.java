@@ -0,0 +1,55 @@
+package com.resume.util;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void decodesToTheDocumentsAfterTheCursor() {
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+        String id = new ObjectId().toHexString();
+
+        Document criteria = PageCursor.after("postedAt", PageCursor.encode(at, id)).getCriteriaObject();
+
+        assertThat(criteria.get("$or")).isEqualTo(List.of(
+                new Document("postedAt", new Document("$lt", at)),
+                new Document("postedAt", at).append("id", new Document("$lt", id))));
+    }
+
+    @Test
+    void tokensAreUrlSafe() {
+        String token = PageCursor.encode(LocalDateTime.of(2024, 1, 1, 0, 0), new ObjectId().toHexString());
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String id = new ObjectId().toHexString();
+
+        assertInvalid("not base64!");
+        assertInvalid(encodeRaw("2024-01-01T00:00"));
+        assertInvalid(encodeRaw("2024-01-01T00:00|not-an-object-id"));
+        assertInvalid(encodeRaw("yesterday|" + id));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> PageCursor.after("postedAt", token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String encodeRaw(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,72 @@
+package com.resume.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    @Test
+    void ranksByFrequencyThenAlphabetically() {
+        PrefixIndex index = index(Map.of(
+                "java", 5, "javascript", 9, "jakarta", 5, "jenkins", 1, "python", 20), 10);
+
+        assertThat(values(index.suggest("j", 10))).containsExactly("Javascript", "Jakarta", "Java", "Jenkins");
+        assertThat(index.suggest("j", 10).get(0).getCount()).isEqualTo(9);
+    }
+
+    @Test
+    void longPrefixesAreScannedWithinTheirRange() {
+        PrefixIndex index = index(Map.of("java", 5, "javascript", 9, "jakarta", 5, "jav", 1), 10);
+
+        assertThat(values(index.suggest("java", 10))).containsExactly("Javascript", "Java");
+        assertThat(values(index.suggest("javas", 10))).containsExactly("Javascript");
+        assertThat(index.suggest("javaz", 10)).isEmpty();
+    }
+
+    @Test
+    void emptyPrefixReturnsTheMostFrequentKeys() {
+        PrefixIndex index = index(Map.of("a", 1, "b", 3, "c", 2), 10);
+
+        assertThat(values(index.suggest("", 2))).containsExactly("B", "C");
+    }
+
+    @Test
+    void limitIsCappedByMaxResults() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            counts.put("skill" + i, i);
+        }
+        PrefixIndex index = index(counts, 5);
+
+        assertThat(index.suggest("sk", 50)).hasSize(5);
+        assertThat(index.suggest("skill", 50)).hasSize(5);
+        assertThat(values(index.suggest("skill", 2))).containsExactly("Skill29", "Skill28");
+        assertThat(index.size()).isEqualTo(30);
+    }
+
+    @Test
+    void unknownPrefixesReturnNothing() {
+        PrefixIndex index = index(Map.of("go", 1), 10);
+
+        assertThat(index.suggest("x", 10)).isEmpty();
+        assertThat(index.suggest("xyz", 10)).isEmpty();
+        assertThat(index(Map.of(), 10).suggest("", 10)).isEmpty();
+    }
+
+    // Labels are the capitalised key so tests can tell them apart from keys
+    private static PrefixIndex index(Map<String, Integer> counts, int maxResults) {
+        Map<String, Map.Entry<String, Integer>> entries = new HashMap<>();
+        counts.forEach((key, count) -> entries.put(key,
+                Map.entry(key.isEmpty() ? key : Character.toUpperCase(key.charAt(0)) + key.substring(1), count)));
+        return new PrefixIndex(entries, maxResults);
+    }
+
+    private static List<String> values(List<PrefixIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(PrefixIndex.Suggestion::getValue).toList();
+    }
+}
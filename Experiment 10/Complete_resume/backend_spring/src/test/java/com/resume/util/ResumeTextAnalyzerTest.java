@@ -0,0 +1,182 @@
+package com.resume.util;
+
+import com.resume.model.Resume;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumeTextAnalyzerTest {
+
+    private static List<SkillTaxonomy.Term> terms;
+    private static ResumeTextAnalyzer analyzer;
+
+    @BeforeAll
+    static void loadTaxonomy() throws IOException {
+        terms = new ArrayList<>();
+        Resource taxonomy = new PathMatchingResourcePatternResolver().getResource("classpath:taxonomy/skills.txt");
+        for (String line : taxonomy.getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.indexOf(':');
+            List<String> names = Arrays.stream(line.substring(separator + 1).split(","))
+                    .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                    .filter(name -> !name.isEmpty())
+                    .toList();
+            terms.add(new SkillTaxonomy.Term(line.substring(0, separator).trim(), names.get(0),
+                    names.subList(1, names.size())));
+        }
+        analyzer = new ResumeTextAnalyzer(terms);
+    }
+
+    @Test
+    void goldenCorpusMatchesReference() throws IOException {
+        Resource[] documents = new PathMatchingResourcePatternResolver().getResources("classpath:golden/*.txt");
+        assertThat(documents).isNotEmpty();
+        for (Resource document : documents) {
+            String text = document.getContentAsString(StandardCharsets.UTF_8);
+            assertThat(analyzer.analyze(text)).as(document.getFilename()).isEqualTo(reference(text));
+        }
+    }
+
+    @Test
+    void randomizedTextsMatchReference() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            String text = randomText(random);
+            assertThat(analyzer.analyze(text)).as("text %d: %s", i, text).isEqualTo(reference(text));
+        }
+    }
+
+    @Test
+    void termsOnlyMatchOnWordBoundaries() {
+        ResumeParser.ParseResult result = analyzer.analyze("Recruiter at google using javascript and reactive streams");
+
+        assertThat(result.getKeywords()).contains("javascript")
+                .doesNotContain("r", "go", "java", "react");
+    }
+
+    @Test
+    void termsEndingInSymbolsAndAliasesAreMatched() {
+        ResumeParser.ParseResult result = analyzer.analyze("C++/C#, golang, Node.js and R.");
+
+        assertThat(result.getKeywords()).contains("c++", "c#", "go", "node.js", "r");
+    }
+
+    @Test
+    void overlappingTermsAreAllReported() {
+        ResumeParser.ParseResult result = analyzer.analyze("Spring Boot services");
+
+        assertThat(result.getKeywords()).containsOnlyOnce("spring");
+    }
+
+    @Test
+    void headingsKeepSubstringMatching() {
+        ResumeParser.ParseResult result = analyzer.analyze("Work EXPERIENCE: five years\nEducational background");
+
+        assertThat(result.getExperience()).startsWith("EXPERIENCE: five years");
+        assertThat(result.getEducation()).startsWith("Educational background");
+    }
+
+    // The extraction as it was before the single-pass analyzer: regexes over the whole text and one
+    // search per term name, with the word-boundary rule the taxonomy introduced.
+    private static ResumeParser.ParseResult reference(String text) {
+        StringBuilder lower = new StringBuilder();
+        List<Integer> origin = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            String folded = String.valueOf(text.charAt(i)).toLowerCase(Locale.ROOT);
+            lower.append(folded);
+            for (int j = 0; j < folded.length(); j++) {
+                origin.add(i);
+            }
+        }
+
+        List<String> keywords = new ArrayList<>();
+        List<String> skills = new ArrayList<>();
+        for (SkillTaxonomy.Term term : terms) {
+            List<String> names = new ArrayList<>(term.getAliases());
+            names.add(0, term.getName());
+            boolean found = names.stream().anyMatch(name -> containsBounded(text, lower, origin, name));
+            if (found) {
+                (SkillTaxonomy.SKILL.equals(term.getCategory()) ? skills : keywords).add(term.getName());
+            }
+        }
+
+        Resume.ContactInfo contactInfo = new Resume.ContactInfo();
+        contactInfo.setEmail(firstMatch("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}\\b", 0, text));
+        contactInfo.setPhone(firstMatch("(\\+?\\d{1,3}[-\\.\\s]?)?\\(?(\\d{3})\\)?[-\\.\\s]?(\\d{3})[-\\.\\s]?(\\d{4})", 0, text));
+        contactInfo.setName(firstMatch("^([A-Z][a-z]+ [A-Z][a-z]+)", Pattern.MULTILINE, text));
+
+        ResumeParser.ParseResult result = new ResumeParser.ParseResult();
+        result.setExtractedText(text);
+        result.setKeywords(new ArrayList<>(new HashSet<>(keywords)));
+        result.setSkills(new ArrayList<>(new HashSet<>(skills)));
+        result.setContactInfo(contactInfo);
+        result.setExperience(section("experience", text));
+        result.setEducation(section("education", text));
+        return result;
+    }
+
+    private static boolean containsBounded(String text, StringBuilder lower, List<Integer> origin, String name) {
+        for (int at = lower.indexOf(name); at >= 0; at = lower.indexOf(name, at + 1)) {
+            int start = origin.get(at);
+            int end = origin.get(at + name.length() - 1);
+            boolean startBounded = start == 0
+                    || !Character.isLetterOrDigit(text.charAt(start)) || !Character.isLetterOrDigit(text.charAt(start - 1));
+            boolean endBounded = end + 1 >= text.length()
+                    || !Character.isLetterOrDigit(text.charAt(end)) || !Character.isLetterOrDigit(text.charAt(end + 1));
+            if (startBounded && endBounded) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String firstMatch(String regex, int flags, String text) {
+        Matcher matcher = Pattern.compile(regex, flags).matcher(text);
+        return matcher.find() ? matcher.group() : null;
+    }
+
+    private static String section(String heading, String text) {
+        Matcher matcher = Pattern.compile(heading + "[\\s\\S]{0,500}", Pattern.CASE_INSENSITIVE).matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+        String section = matcher.group();
+        return section.length() > 500 ? section.substring(0, 500) : section;
+    }
+
+    private static final String[] FRAGMENTS = {
+            " ", " ", " ", "\n", "\r\n", "\r", " ", "\u0085", ", ", ". ", "/", "-", "(", ")", "+", "#",
+            "John Smith", "Mary Jane", "jOHN", "Ab Cd", "A B", "@", "x@y.co", "first.last@example.com",
+            "a@b", "user@host.c", "555-123-4567", "(555) 123 4567", "+1 555.123.4567", "12345678901234",
+            "2019-2024", "İ", "é", "😀", "K", "Experience", "EDUCATION", "educat",
+            "react", "reactive", "go", "google", "java", "javascript", "C++", "c#", "r", "R", "node.js",
+            "Spring Boot", "springfield", "sql", "mysql", "aws", "docker", "kubernetes", "ml", "html5"
+    };
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int parts = random.nextInt(30);
+        for (int i = 0; i < parts; i++) {
+            String fragment = FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+            text.append(random.nextBoolean() ? fragment : fragment.toUpperCase(Locale.ROOT));
+        }
+        return text.toString();
+    }
+}
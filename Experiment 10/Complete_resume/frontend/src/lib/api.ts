@@ -121,7 +121,9 @@ class ApiClient {
   }
 
   async getResumes(page = 1, limit = 10): Promise<PaginatedResponse<Resume>> {
-    const data = await this.request<any>(`/resumes?page=${page}&limit=${limit}`);
+    // The list shows recent matches, which the API only includes when asked for
+    const fields = 'originalName,contactInfo,uploadedAt,keywords,skills,matchHistory';
+    const data = await this.request<any>(`/resumes?page=${page}&limit=${limit}&fields=${fields}`);
     return {
       data: data.resumes,
       pagination: data.pagination,